@@ -0,0 +1,118 @@
+package com.hydro.common.annotations.aspects;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import com.hydro.common.annotations.interceptors.HasAccessInterceptor;
+import com.hydro.common.benchmark.BenchmarkContext;
+import com.hydro.common.benchmark.BenchmarkContext.GuardedService;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * Benchmarks for the {@link HasAccessAspect} invoked through the Spring proxy
+ * of a guarded bean, compared against an unguarded method on the same proxy and
+ * against the {@link HasAccessInterceptor} checking the method before calling
+ * the bean directly, the way the dispatcher calls a controller.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HasAccessAspectBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedContext {
+        private BenchmarkContext context;
+
+        private String userToken;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            context = new BenchmarkContext();
+            userToken = context.getBean(JwtTokenUtil.class).generateToken(BenchmarkContext.user());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private JwtHolder jwtHolder;
+
+        private GuardedService guardedService;
+
+        private GuardedService target;
+
+        private HasAccessInterceptor interceptor;
+
+        private HandlerMethod handlerMethod;
+
+        private MockHttpServletRequest request;
+
+        private MockHttpServletResponse response;
+
+        private int value;
+
+        @Setup(Level.Trial)
+        public void setup(SharedContext shared) {
+            jwtHolder = shared.context.getBean(JwtHolder.class);
+            guardedService = shared.context.getBean(GuardedService.class);
+            target = new GuardedService();
+            interceptor = shared.context.getBean(HasAccessInterceptor.class);
+            request = new MockHttpServletRequest();
+            response = new MockHttpServletResponse();
+            try {
+                handlerMethod = new HandlerMethod(target, GuardedService.class.getMethod("guarded", int.class));
+            }
+            catch(NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            jwtHolder.setToken(shared.userToken);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jwtHolder.clearToken();
+        }
+    }
+
+    @Benchmark
+    public int access(ThreadState state) {
+        return state.guardedService.guarded(state.value++);
+    }
+
+    @Benchmark
+    public int interceptor(ThreadState state) {
+        state.interceptor.preHandle(state.request, state.response, state.handlerMethod);
+        return ((GuardedService) state.handlerMethod.getBean()).guarded(state.value++);
+    }
+
+    @Benchmark
+    public int baseline(ThreadState state) {
+        return state.guardedService.unguarded(state.value++);
+    }
+}
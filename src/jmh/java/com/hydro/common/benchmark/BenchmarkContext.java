@@ -0,0 +1,153 @@
+package com.hydro.common.benchmark;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import com.hydro.common.annotations.aspects.AccessDecisionRegistry;
+import com.hydro.common.annotations.aspects.HasAccessAspect;
+import com.hydro.common.annotations.interceptors.HasAccessInterceptor;
+import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.data.User;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.jwt.signing.JwtCodecService;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * Spring context shared by the benchmarks. The beans are wired the same way a
+ * consuming service would wire them, including the aspect proxy for
+ * {@link HasAccess} methods and the interceptor that can replace it.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class BenchmarkContext implements AutoCloseable {
+    public static final String SIGNING_KEY = "benchmark-signing-key";
+
+    private final AnnotationConfigApplicationContext context;
+
+    public BenchmarkContext() {
+        this.context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    /**
+     * Gets a user shaped like the ones issued by the auth service.
+     * 
+     * @return {@link User} object.
+     */
+    public static User user() {
+        User user = new User();
+        user.setId(12);
+        user.setFirstName("Bench");
+        user.setLastName("User");
+        user.setEmail("bench@user.com");
+        user.setWebRole(WebRole.ADMIN);
+        return user;
+    }
+
+    /**
+     * Gets a hydro system shaped like the ones issued by the auth service.
+     * 
+     * @return {@link HydroSystem} object.
+     */
+    public static HydroSystem system() {
+        HydroSystem system = new HydroSystem();
+        system.setId(1);
+        system.setUuid("71d9ec65-265b-3388-a6e4-654128dr5678");
+        system.setPartNumber(new PartNumber("111111D222222"));
+        system.setName("benchSystem");
+        system.setOwnerUserId(2);
+        return system;
+    }
+
+    /**
+     * Environment service with a fixed signing key so the benchmarks do not
+     * depend on the process environment.
+     */
+    public static class BenchmarkEnvironmentService extends AppEnvironmentService {
+        @Override
+        public Environment getEnvironment() {
+            return Environment.LOCAL;
+        }
+
+        @Override
+        public String getSigningKey() {
+            return SIGNING_KEY;
+        }
+    }
+
+    /**
+     * Bean guarded by {@link HasAccess} so the aspect is invoked through the
+     * proxy like it is in a controller.
+     */
+    public static class GuardedService {
+        @HasAccess(WebRole.USER)
+        public int guarded(int value) {
+            return value;
+        }
+
+        public int unguarded(int value) {
+            return value;
+        }
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class BenchmarkConfig {
+        @Bean
+        public AppEnvironmentService appEnvironmentService() {
+            return new BenchmarkEnvironmentService();
+        }
+
+        @Bean
+        public JwtCodecService jwtCodecService() {
+            return new JwtCodecService();
+        }
+
+        @Bean
+        public JwtTokenUtil jwtTokenUtil() {
+            return new JwtTokenUtil();
+        }
+
+        @Bean
+        public JwtHolder jwtHolder() {
+            return new JwtHolder();
+        }
+
+        @Bean
+        public static AccessDecisionRegistry accessDecisionRegistry() {
+            return new AccessDecisionRegistry();
+        }
+
+        @Bean
+        public HasAccessAspect hasAccessAspect() {
+            return new HasAccessAspect();
+        }
+
+        @Bean
+        public HasAccessInterceptor hasAccessInterceptor(JwtHolder jwtHolder,
+                AccessDecisionRegistry accessDecisionRegistry) {
+            return new HasAccessInterceptor(jwtHolder, accessDecisionRegistry);
+        }
+
+        @Bean
+        public GuardedService guardedService() {
+            return new GuardedService();
+        }
+    }
+}
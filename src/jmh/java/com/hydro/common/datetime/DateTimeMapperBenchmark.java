@@ -0,0 +1,58 @@
+package com.hydro.common.datetime;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link DateTimeMapper} against building a new
+ * {@link SimpleDateFormat} per call.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateTimeMapperBenchmark {
+    private final Date date = new Date(1665000000000L);
+
+    private final LocalDateTime localDateTime = LocalDateTime.of(2022, 10, 5, 15, 0, 0);
+
+    @Benchmark
+    public String simpleDateFormat() {
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return simpleDateFormat.format(date);
+    }
+
+    @Benchmark
+    public String printDate() {
+        return DateTimeMapper.printDate(date);
+    }
+
+    @Benchmark
+    public String printDateFormat() {
+        return DateTimeMapper.printDate(date, "MM/dd/yyyy HH:mm z", "America/Chicago");
+    }
+
+    @Benchmark
+    public String printLocalDateTime() {
+        return DateTimeMapper.printDate(localDateTime);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hydro.common.dictionary.data;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.dictionary.enums.Environment;
+
+/**
+ * Benchmarks for parsing, printing and looking up a {@link PartNumber}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartNumberBenchmark {
+    private final Map<PartNumber, Integer> systems = new HashMap<>();
+
+    private PartNumber partNumber;
+
+    private long packed;
+
+    @Setup
+    public void setup() {
+        for(int i = 0; i < 1000; i++) {
+            systems.put(new PartNumber(111111, Environment.DEVELOPMENT, i), i);
+        }
+        partNumber = new PartNumber("111111D000500");
+        packed = partNumber.toLong();
+    }
+
+    @Benchmark
+    public PartNumber parse() {
+        return new PartNumber("111111D222222");
+    }
+
+    @Benchmark
+    public PartNumber parseInvalid() {
+        try {
+            return new PartNumber("111111X222222");
+        }
+        catch(IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public PartNumber tryParseInvalid() {
+        return PartNumber.tryParse("111111X222222");
+    }
+
+    @Benchmark
+    public String print() {
+        return new PartNumber(111111, Environment.DEVELOPMENT, 222222).toString();
+    }
+
+    @Benchmark
+    public Integer lookup() {
+        return systems.get(partNumber);
+    }
+
+    @Benchmark
+    public PartNumber fromLong() {
+        return PartNumber.fromLong(packed);
+    }
+}
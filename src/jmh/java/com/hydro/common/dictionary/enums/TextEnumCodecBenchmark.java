@@ -0,0 +1,54 @@
+package com.hydro.common.dictionary.enums;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for looking up {@link TextEnum} constants with the
+ * {@link TextEnumCodec} against streaming the values and {@code valueOf}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextEnumCodecBenchmark {
+    private String textId = "d";
+
+    private String name = "DEVELOPER";
+
+    @Benchmark
+    public Environment streamValues() {
+        return Arrays.asList(Environment.values()).stream().filter(e -> e.getTextId().equals(textId.toUpperCase()))
+                .findAny().orElse(Environment.LOCAL);
+    }
+
+    @Benchmark
+    public Environment codecTextId() {
+        return TextEnumCodec.of(Environment.class).decode(textId, Environment.LOCAL);
+    }
+
+    @Benchmark
+    public WebRole enumValueOf() {
+        return WebRole.valueOf(name);
+    }
+
+    @Benchmark
+    public WebRole codecName() {
+        return TextEnumCodec.of(WebRole.class).valueOf(name);
+    }
+}
@@ -0,0 +1,97 @@
+package com.hydro.common.dictionary.importer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+
+/**
+ * Benchmarks for the {@link HydroSystemImporter} against reading the file line
+ * by line and building each {@link PartNumber} with its constructor. One in a
+ * hundred lines has a bad part number.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class HydroSystemImporterBenchmark {
+
+    @Param("1000000")
+    private int lineCount;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("systems", ".csv");
+        try(BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for(int i = 0; i < lineCount; i++) {
+                String partNumber = i % 100 == 0 ? "111111X222222"
+                        : new PartNumber(i % 1000000, Environment.PRODUCTION, i % 1000000).build();
+                writer.write(partNumber + ",71d9ec65-265b-3388-a6e4-654128d05678,System " + i + "," + i + "\n");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long importer() throws IOException {
+        long[] count = new long[1];
+        new HydroSystemImporter().importFile(file, batch -> count[0] += batch.size());
+        return count[0];
+    }
+
+    @Benchmark
+    public long readLines() throws IOException {
+        long count = 0;
+        List<String> errors = new ArrayList<>();
+        try(BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                try {
+                    HydroSystem system = new HydroSystem();
+                    system.setPartNumber(new PartNumber(fields[0]));
+                    system.setUuid(fields[1]);
+                    system.setName(fields[2]);
+                    system.setOwnerUserId(Integer.parseInt(fields[3]));
+                    count++;
+                }
+                catch(IllegalArgumentException e) {
+                    errors.add(e.getMessage());
+                }
+            }
+        }
+        return count + errors.size();
+    }
+}
@@ -0,0 +1,138 @@
+package com.hydro.common.dictionary.registry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+
+/**
+ * Benchmarks for looking up systems in the {@link HydroSystemRegistry} against
+ * maps keyed by the boxed id and the part number and uuid strings.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class HydroSystemRegistryBenchmark {
+
+    @Param("1000000")
+    private int systemCount;
+
+    private HydroSystemRegistry registry;
+
+    private Map<Integer, HydroSystem> mapById;
+
+    private Map<String, HydroSystem> mapByPartNumber;
+
+    private Map<String, HydroSystem> mapByUuid;
+
+    @Setup
+    public void setup() {
+        registry = new HydroSystemRegistry(systemCount);
+        mapById = new HashMap<>(systemCount * 2);
+        mapByPartNumber = new HashMap<>(systemCount * 2);
+        mapByUuid = new HashMap<>(systemCount * 2);
+        for(int i = 0; i < systemCount; i++) {
+            HydroSystem system = new HydroSystem();
+            system.setId(i);
+            system.setUuid(uuid(i));
+            system.setPartNumber(new PartNumber(i % 1000000, Environment.PRODUCTION, i % 1000000));
+            registry.put(system);
+            mapById.put(i, system);
+            mapByPartNumber.put(system.getPartNumber().toString(), system);
+            mapByUuid.put(system.getUuid(), system);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Key {
+        private static final int KEYS = 4096;
+
+        private final int[] ids = new int[KEYS];
+
+        private final String[] partNumbers = new String[KEYS];
+
+        private final String[] uuids = new String[KEYS];
+
+        private int index;
+
+        private int id;
+
+        private String partNumber;
+
+        private String uuid;
+
+        @Setup
+        public void setup(HydroSystemRegistryBenchmark benchmark) {
+            for(int i = 0; i < KEYS; i++) {
+                ids[i] = ThreadLocalRandom.current().nextInt(benchmark.systemCount);
+                partNumbers[i] = new PartNumber(ids[i], Environment.PRODUCTION, ids[i]).toString();
+                uuids[i] = uuid(ids[i]);
+            }
+        }
+
+        Key next() {
+            index = (index + 1) & (KEYS - 1);
+            id = ids[index];
+            partNumber = partNumbers[index];
+            uuid = uuids[index];
+            return this;
+        }
+    }
+
+    @Benchmark
+    public HydroSystem registryById(Key key) {
+        return registry.getById(key.next().id);
+    }
+
+    @Benchmark
+    public HydroSystem mapById(Key key) {
+        return mapById.get(key.next().id);
+    }
+
+    @Benchmark
+    public HydroSystem registryByPartNumber(Key key) {
+        return registry.getByPartNumber(new PartNumber(key.next().partNumber));
+    }
+
+    @Benchmark
+    public HydroSystem mapByPartNumber(Key key) {
+        return mapByPartNumber.get(key.next().partNumber);
+    }
+
+    @Benchmark
+    public HydroSystem registryByUuid(Key key) {
+        return registry.getByUuid(key.next().uuid);
+    }
+
+    @Benchmark
+    public HydroSystem mapByUuid(Key key) {
+        return mapByUuid.get(key.next().uuid);
+    }
+
+    private static String uuid(int i) {
+        return new UUID(0x71d9ec65265b3388L ^ i, 0xa6e4654128d05678L * (i + 1)).toString();
+    }
+}
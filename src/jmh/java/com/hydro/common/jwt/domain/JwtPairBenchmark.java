@@ -0,0 +1,67 @@
+package com.hydro.common.jwt.domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.benchmark.BenchmarkContext;
+import com.hydro.common.jwt.signing.JwtCodecService;
+import com.hydro.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * Benchmarks for constructing a {@link JwtPair} from user and system tokens.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtPairBenchmark {
+    private BenchmarkContext context;
+
+    private JwtCodecService jwtCodecService;
+
+    private String userToken;
+
+    private String systemToken;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new BenchmarkContext();
+        jwtCodecService = context.getBean(JwtCodecService.class);
+
+        JwtTokenUtil jwtTokenUtil = context.getBean(JwtTokenUtil.class);
+        userToken = jwtTokenUtil.generateToken(BenchmarkContext.user());
+        systemToken = jwtTokenUtil.generateToken(BenchmarkContext.system());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public JwtPair userPair() {
+        return new JwtPair(userToken, jwtCodecService);
+    }
+
+    @Benchmark
+    public JwtPair systemPair() {
+        return new JwtPair(systemToken, jwtCodecService);
+    }
+}
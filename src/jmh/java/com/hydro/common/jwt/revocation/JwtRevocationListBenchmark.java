@@ -0,0 +1,73 @@
+package com.hydro.common.jwt.revocation;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the revocation check done for every bound token. The false
+ * positive rate observed during the run is printed when the trial ends.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtRevocationListBenchmark {
+    @Param({"1000", "100000"})
+    private int revokedCount;
+
+    private JwtRevocationList list;
+
+    private String revokedId;
+
+    private String liveId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        list = new JwtRevocationList(JwtRevocationList.DEFAULT_EXPECTED_REVOCATIONS,
+                                     JwtRevocationList.DEFAULT_FALSE_POSITIVE_RATE);
+        for(int i = 0; i < revokedCount; i++) {
+            revokedId = UUID.randomUUID().toString();
+            list.revoke(revokedId, Long.MAX_VALUE);
+        }
+        liveId = UUID.randomUUID().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nexpected false positive rate %.5f%n", list.getExpectedFalsePositiveRate());
+    }
+
+    @Benchmark
+    public boolean liveToken() {
+        return list.isRevoked(liveId);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return list.isRevoked(revokedId);
+    }
+
+    @Benchmark
+    public boolean tokenWithoutId() {
+        return list.isRevoked(null);
+    }
+}
@@ -0,0 +1,116 @@
+package com.hydro.common.jwt.signing;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.benchmark.BenchmarkContext;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.User;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.domain.JwtType;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Compares signing and verify throughput of the supported algorithms on user
+ * and system shaped tokens. EdDSA needs JDK 15 or later, so it is not in the
+ * default parameters, add it with {@code -p algorithm=HS512,ES256,EDDSA}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAlgorithmBenchmark {
+
+    @Param({ "HS512", "ES256" })
+    private JwtAlgorithm algorithm;
+
+    @Param({ "WEB", "SYSTEM" })
+    private JwtType tokenType;
+
+    private JwtCodec codec;
+
+    private Map<String, Object> claims;
+
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchAlgorithmException {
+        codec = new JwtCodec(algorithm.isHmac() ? new HmacSigningStrategy(algorithm, BenchmarkContext.SIGNING_KEY)
+                                                : keyPairStrategy(algorithm));
+        claims = tokenType == JwtType.WEB ? userClaims(BenchmarkContext.user())
+                                          : systemClaims(BenchmarkContext.system());
+
+        long now = System.currentTimeMillis();
+        token = codec.encode(claims, now, now + 86400000);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return codec.decode(token);
+    }
+
+    @Benchmark
+    public String sign() {
+        long now = System.currentTimeMillis();
+        return codec.encode(claims, now, now + 86400000);
+    }
+
+    private static JwtSigningStrategy keyPairStrategy(JwtAlgorithm algorithm) throws NoSuchAlgorithmException {
+        KeyPair pair = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm()).generateKeyPair();
+        Base64.Encoder encoder = Base64.getEncoder();
+        return JwtSigningStrategies.asymmetric(algorithm, encoder.encodeToString(pair.getPublic().getEncoded()),
+                                               encoder.encodeToString(pair.getPrivate().getEncoded()));
+    }
+
+    private static Map<String, Object> userClaims(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(HydroJwtClaims.USER_ID, user.getId());
+        claims.put(HydroJwtClaims.FIRST_NAME, user.getFirstName());
+        claims.put(HydroJwtClaims.LAST_NAME, user.getLastName());
+        claims.put(HydroJwtClaims.EMAIL, user.getEmail());
+        claims.put(HydroJwtClaims.WEB_ROLE, user.getWebRole());
+        claims.put(HydroJwtClaims.ENVIRONMENT, Environment.LOCAL);
+        claims.put(HydroJwtClaims.JWT_TYPE, JwtType.WEB);
+        claims.put(HydroJwtClaims.PASSWORD_RESET, false);
+        return claims;
+    }
+
+    private static Map<String, Object> systemClaims(HydroSystem system) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(HydroJwtClaims.ID, system.getId());
+        claims.put(HydroJwtClaims.UUID, system.getUuid());
+        claims.put(HydroJwtClaims.PART_NUMBER, system.getPartNumber());
+        claims.put(HydroJwtClaims.NAME, system.getName());
+        claims.put(HydroJwtClaims.OWNER_USER_ID, system.getOwnerUserId());
+        claims.put(HydroJwtClaims.ENVIRONMENT, Environment.LOCAL);
+        claims.put(HydroJwtClaims.WEB_ROLE, WebRole.SYSTEM);
+        claims.put(HydroJwtClaims.JWT_TYPE, JwtType.SYSTEM);
+        return claims;
+    }
+}
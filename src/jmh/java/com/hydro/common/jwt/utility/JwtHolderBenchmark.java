@@ -0,0 +1,100 @@
+package com.hydro.common.jwt.utility;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.benchmark.BenchmarkContext;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.User;
+
+/**
+ * Benchmarks for reading the current user and system off of the
+ * {@link JwtHolder}. Each benchmark thread binds its own token since the holder
+ * is thread local.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtHolderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedContext {
+        private BenchmarkContext context;
+
+        private String userToken;
+
+        private String systemToken;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            context = new BenchmarkContext();
+            JwtTokenUtil jwtTokenUtil = context.getBean(JwtTokenUtil.class);
+            userToken = jwtTokenUtil.generateToken(BenchmarkContext.user());
+            systemToken = jwtTokenUtil.generateToken(BenchmarkContext.system());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class UserThread {
+        private JwtHolder jwtHolder;
+
+        @Setup(Level.Trial)
+        public void setup(SharedContext shared) {
+            jwtHolder = shared.context.getBean(JwtHolder.class);
+            jwtHolder.setToken(shared.userToken);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jwtHolder.clearToken();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SystemThread {
+        private JwtHolder jwtHolder;
+
+        @Setup(Level.Trial)
+        public void setup(SharedContext shared) {
+            jwtHolder = shared.context.getBean(JwtHolder.class);
+            jwtHolder.setToken(shared.systemToken);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jwtHolder.clearToken();
+        }
+    }
+
+    @Benchmark
+    public User getUser(UserThread state) {
+        return state.jwtHolder.getUser();
+    }
+
+    @Benchmark
+    public HydroSystem getSystem(SystemThread state) {
+        return state.jwtHolder.getSystem();
+    }
+}
@@ -0,0 +1,82 @@
+package com.hydro.common.jwt.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hydro.common.benchmark.BenchmarkContext;
+import com.hydro.common.dictionary.data.HydroSystem;
+
+/**
+ * Benchmarks for issuing system tokens one at a time against the bulk
+ * {@link JwtTokenUtil#generateTokens(java.util.Collection)}.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBatchBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private BenchmarkContext context;
+
+    private JwtTokenUtil jwtTokenUtil;
+
+    private List<HydroSystem> systems;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new BenchmarkContext();
+        jwtTokenUtil = context.getBean(JwtTokenUtil.class);
+        systems = new ArrayList<>(size);
+        for(int i = 0; i < size; i++) {
+            HydroSystem system = BenchmarkContext.system();
+            system.setId(i);
+            systems.add(system);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void generateTokensLoop(Blackhole blackhole) {
+        for(HydroSystem system : systems) {
+            blackhole.consume(jwtTokenUtil.generateToken(system));
+        }
+    }
+
+    @Benchmark
+    public List<String> generateTokensBulk() {
+        return jwtTokenUtil.generateTokens(systems);
+    }
+
+    @Benchmark
+    public void generateTokensStreaming(Blackhole blackhole) {
+        jwtTokenUtil.generateTokens(systems, (system, token) -> blackhole.consume(token));
+    }
+}
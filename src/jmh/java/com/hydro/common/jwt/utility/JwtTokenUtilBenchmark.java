@@ -0,0 +1,128 @@
+package com.hydro.common.jwt.utility;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.benchmark.BenchmarkContext;
+import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtCodecService;
+import com.hydro.common.jwt.signing.JwtTokenStatus;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Benchmarks for issuing and reading tokens with the {@link JwtTokenUtil}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenUtilBenchmark {
+    private BenchmarkContext context;
+
+    private JwtTokenUtil jwtTokenUtil;
+
+    private JwtCodec codec;
+
+    private String userToken;
+
+    private String systemToken;
+
+    private String compactSystemToken;
+
+    private String expiredToken;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new BenchmarkContext();
+        jwtTokenUtil = context.getBean(JwtTokenUtil.class);
+        codec = context.getBean(JwtCodecService.class).getJwtCodec();
+        userToken = jwtTokenUtil.generateToken(BenchmarkContext.user());
+        systemToken = jwtTokenUtil.generateToken(BenchmarkContext.system());
+        compactSystemToken = jwtTokenUtil.generateCompactToken(BenchmarkContext.system());
+        expiredToken = codec.encode(Map.of(HydroJwtClaims.USER_ID, 12), 0, 1000);
+        System.out.printf("%nsystem token %d bytes, compact system token %d bytes%n", systemToken.length(),
+                          compactSystemToken.length());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateUserToken() {
+        return jwtTokenUtil.generateToken(BenchmarkContext.user());
+    }
+
+    @Benchmark
+    public String generateSystemToken() {
+        return jwtTokenUtil.generateToken(BenchmarkContext.system());
+    }
+
+    @Benchmark
+    public String generateCompactSystemToken() {
+        return jwtTokenUtil.generateCompactToken(BenchmarkContext.system());
+    }
+
+    @Benchmark
+    public Claims getAllClaimsFromToken() {
+        return jwtTokenUtil.getAllClaimsFromToken(userToken);
+    }
+
+    /**
+     * Full signature check and parse of the token without the claims cache. This
+     * is the cost paid on a cache miss.
+     */
+    @Benchmark
+    public Claims verifyToken() {
+        return codec.decode(userToken);
+    }
+
+    /**
+     * Structural and expiry check done by the filter before verification.
+     */
+    @Benchmark
+    public JwtTokenStatus precheckToken() {
+        return JwtCodec.precheck(userToken, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public JwtTokenStatus precheckExpiredToken() {
+        return JwtCodec.precheck(expiredToken, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public JwtTokenStatus precheckGarbageToken() {
+        return JwtCodec.precheck("garbage.token", System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public Claims verifySystemToken() {
+        return codec.decode(systemToken);
+    }
+
+    @Benchmark
+    public Claims verifyCompactSystemToken() {
+        return codec.decode(compactSystemToken);
+    }
+}
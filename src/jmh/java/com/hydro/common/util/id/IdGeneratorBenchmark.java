@@ -0,0 +1,65 @@
+package com.hydro.common.util.id;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hydro.common.util.CommonUtil;
+
+/**
+ * Benchmarks for generating numbers and ids from several threads at once,
+ * comparing the old {@code Math.random} based random number against
+ * {@link CommonUtil#generateRandomNumber(int)}, the
+ * {@link SnowflakeIdGenerator} and the {@link ProductNumberAllocator}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class IdGeneratorBenchmark {
+    private final SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(1);
+
+    // Wraps around so the allocator is never exhausted during a run
+    private final ProductNumberAllocator allocator = new ProductNumberAllocator(
+            count -> snowflake.nextId() % (ProductNumberAllocator.PRODUCT_NUMBER_COUNT / count) * count,
+            ProductNumberAllocator.DEFAULT_BATCH_SIZE);
+
+    private int length = 6;
+
+    @Benchmark
+    public long mathRandom() {
+        long numberThreshold = Long.parseLong("9" + "0".repeat(length - 1));
+        long mask = Long.parseLong("1" + "0".repeat(length - 1));
+        return (long) Math.floor(Math.random() * numberThreshold) + mask;
+    }
+
+    @Benchmark
+    public long generateRandomNumber() {
+        return CommonUtil.generateRandomNumber(length);
+    }
+
+    @Benchmark
+    public long snowflakeNextId() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    public int productNumberNext() {
+        return allocator.next();
+    }
+}
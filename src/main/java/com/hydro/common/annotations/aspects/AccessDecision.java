@@ -0,0 +1,224 @@
+package com.hydro.common.annotations.aspects;
+
+import java.lang.reflect.Method;
+import java.util.function.ToIntFunction;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.SynthesizingMethodParameter;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.domain.JwtClaimSnapshot;
+import com.hydro.common.jwt.domain.JwtType;
+
+/**
+ * Access rules of a {@link HasAccess} method resolved ahead of time. The roles
+ * are held as a bit mask of their ordinals so checking a role is a single bit
+ * test, and the owner parameter is resolved to its index and an accessor so no
+ * reflection is done when the method is called. When the owner is a numeric
+ * path variable or request parameter its binding name is resolved as well, so
+ * it can be read from the request before the arguments are bound.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class AccessDecision {
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private static final int NO_OWNER = -1;
+
+    private final HasAccess access;
+
+    private final int roleMask;
+
+    private final int ownerBypassMask;
+
+    private final int ownerIndex;
+
+    private final ToIntFunction<Object> ownerAccessor;
+
+    private final String ownerBinding;
+
+    private final boolean ownerPathVariable;
+
+    private AccessDecision(HasAccess access, int roleMask, int ownerBypassMask, int ownerIndex,
+                           ToIntFunction<Object> ownerAccessor, String ownerBinding, boolean ownerPathVariable) {
+        this.access = access;
+        this.roleMask = roleMask;
+        this.ownerBypassMask = ownerBypassMask;
+        this.ownerIndex = ownerIndex;
+        this.ownerAccessor = ownerAccessor;
+        this.ownerBinding = ownerBinding;
+        this.ownerPathVariable = ownerPathVariable;
+    }
+
+    /**
+     * Resolves the access rules of the annotation on the given method.
+     * 
+     * @param access The annotation on the method.
+     * @param method The method the annotation is on, used to find the owner
+     *               parameter.
+     * @return {@link AccessDecision} of the method.
+     * @throws IllegalStateException If the owner parameter can not be found or is
+     *                               not a supported type.
+     */
+    public static AccessDecision resolve(HasAccess access, Method method) {
+        int roleMask = 0;
+        for(WebRole role : access.roles().length > 0 ? access.roles() : WebRole.values()) {
+            if(role.getRank() >= access.value().getRank()) {
+                roleMask |= 1 << role.ordinal();
+            }
+        }
+
+        if(access.owner().isEmpty()) {
+            return new AccessDecision(access, roleMask, roleMask, NO_OWNER, null, null, false);
+        }
+
+        int ownerBypassMask = 0;
+        for(WebRole role : WebRole.values()) {
+            if(role.getRank() >= access.ownerBypass().getRank()) {
+                ownerBypassMask |= 1 << role.ordinal();
+            }
+        }
+
+        int ownerIndex = ownerIndex(access.owner(), method);
+        Class<?> ownerType = method.getParameterTypes()[ownerIndex];
+        SynthesizingMethodParameter parameter = SynthesizingMethodParameter.forExecutable(method, ownerIndex);
+        PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+        return new AccessDecision(access, roleMask, ownerBypassMask, ownerIndex, ownerAccessor(ownerType, method),
+                                  ownerBinding(access.owner(), ownerType, parameter), pathVariable != null);
+    }
+
+    /**
+     * Gets the annotation the decision was resolved from.
+     * 
+     * @return {@link HasAccess} of the method.
+     */
+    public HasAccess getAccess() {
+        return access;
+    }
+
+    /**
+     * Gets the name of the owner parameter.
+     * 
+     * @return String of the owner parameter, empty if there is none.
+     */
+    public String getOwner() {
+        return access.owner();
+    }
+
+    /**
+     * Gets the name the owner is bound to in the request, the name of the path
+     * variable or request parameter on the owner parameter.
+     * 
+     * @return String of the owner binding, null if the owner is not a numeric path
+     *         variable or request parameter.
+     */
+    public String getOwnerBinding() {
+        return ownerBinding;
+    }
+
+    /**
+     * Checks if the owner is bound to a path variable instead of a request
+     * parameter.
+     * 
+     * @return {@code true} if the owner is a path variable.
+     */
+    public boolean isOwnerPathVariable() {
+        return ownerPathVariable;
+    }
+
+    /**
+     * Checks if the given role can call the method.
+     * 
+     * @param role The role of the caller.
+     * @return {@code true} if the role has access.
+     */
+    public boolean allows(WebRole role) {
+        return (roleMask & 1 << role.ordinal()) != 0;
+    }
+
+    /**
+     * Checks if the caller with the given role has to own the data.
+     * 
+     * @param role The role of the caller.
+     * @return {@code true} if the ownership has to be checked.
+     */
+    public boolean requiresOwner(WebRole role) {
+        return (ownerBypassMask & 1 << role.ordinal()) == 0;
+    }
+
+    /**
+     * Checks if the caller owns the data the method was called with. A system
+     * token acts for the user that owns the system.
+     * 
+     * @param snapshot The claims of the caller.
+     * @param args     The arguments the method was called with.
+     * @return {@code true} if the caller owns the data.
+     */
+    public boolean isOwner(JwtClaimSnapshot snapshot, Object[] args) {
+        Object owner = args[ownerIndex];
+        return owner != null && isOwner(snapshot, ownerAccessor.applyAsInt(owner));
+    }
+
+    /**
+     * Checks if the caller is the given owner. A system token acts for the user
+     * that owns the system.
+     * 
+     * @param snapshot    The claims of the caller.
+     * @param ownerUserId The user id that owns the data.
+     * @return {@code true} if the caller owns the data.
+     */
+    public boolean isOwner(JwtClaimSnapshot snapshot, int ownerUserId) {
+        int userId = snapshot.getJwtType() == JwtType.SYSTEM ? snapshot.getOwnerUserId() : snapshot.getUserId();
+        return ownerUserId == userId;
+    }
+
+    private static int ownerIndex(String owner, Method method) {
+        String[] names = method != null ? PARAMETER_NAMES.getParameterNames(method) : null;
+        if(names != null) {
+            for(int i = 0; i < names.length; i++) {
+                if(names[i].equals(owner)) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalStateException(String.format("Owner parameter '%s' not found on method '%s'.", owner,
+                                                      method));
+    }
+
+    private static String ownerBinding(String owner, Class<?> type, SynthesizingMethodParameter parameter) {
+        if(!isNumber(type)) {
+            return null;
+        }
+
+        PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+        if(pathVariable != null) {
+            return pathVariable.name().isEmpty() ? owner : pathVariable.name();
+        }
+        RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+        if(requestParam != null) {
+            return requestParam.name().isEmpty() ? owner : requestParam.name();
+        }
+        return null;
+    }
+
+    private static boolean isNumber(Class<?> type) {
+        return type == int.class || type == long.class || Number.class.isAssignableFrom(type);
+    }
+
+    private static ToIntFunction<Object> ownerAccessor(Class<?> type, Method method) {
+        if(isNumber(type)) {
+            return owner -> ((Number) owner).intValue();
+        }
+        if(HydroSystem.class.isAssignableFrom(type)) {
+            return owner -> ((HydroSystem) owner).getOwnerUserId();
+        }
+        throw new IllegalStateException(String.format("Owner parameter of type '%s' on method '%s' is not supported.",
+                                                      type.getSimpleName(), method));
+    }
+}
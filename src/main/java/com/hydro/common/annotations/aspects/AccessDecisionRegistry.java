@@ -0,0 +1,124 @@
+package com.hydro.common.annotations.aspects;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ReflectionUtils;
+
+import com.hydro.common.annotations.interfaces.HasAccess;
+
+/**
+ * Holds the {@link AccessDecision} of every {@link HasAccess} method. The
+ * decisions are resolved as the beans are created so a bad owner parameter
+ * fails on startup instead of on the first call.
+ * 
+ * When {@code security.has-access.mode} is {@code interceptor} the aspect is
+ * not registered and only controller methods are checked, so startup fails if
+ * any other bean has {@link HasAccess} or a controller method has an owner
+ * that is not a numeric path variable or request parameter.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class AccessDecisionRegistry implements BeanPostProcessor {
+    private final Map<Method, AccessDecision> decisions = new ConcurrentHashMap<>();
+
+    private final Set<Method> unguarded = ConcurrentHashMap.newKeySet();
+
+    private final boolean interceptorMode;
+
+    public AccessDecisionRegistry() {
+        this("aspect");
+    }
+
+    @Autowired
+    public AccessDecisionRegistry(@Value("${security.has-access.mode:aspect}") String mode) {
+        this.interceptorMode = "interceptor".equals(mode);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = AopUtils.getTargetClass(bean);
+        boolean handler = AnnotatedElementUtils.hasAnnotation(type, Controller.class);
+        ReflectionUtils.doWithMethods(type, method -> {
+            HasAccess access = AnnotationUtils.findAnnotation(method, HasAccess.class);
+            if(access != null) {
+                AccessDecision decision = AccessDecision.resolve(access, method);
+                if(interceptorMode) {
+                    checkInterceptable(decision, method, handler);
+                }
+                decisions.putIfAbsent(method, decision);
+            }
+        }, ReflectionUtils.USER_DECLARED_METHODS);
+        return bean;
+    }
+
+    private void checkInterceptable(AccessDecision decision, Method method, boolean handler) {
+        if(!handler) {
+            String message = "HasAccess on method '%s' is not checked in interceptor mode, only controller methods "
+                    + "are.";
+            throw new IllegalStateException(String.format(message, method));
+        }
+        if(!decision.getOwner().isEmpty() && decision.getOwnerBinding() == null) {
+            String message = "Owner parameter '%s' on method '%s' must be a numeric path variable or request parameter "
+                    + "in interceptor mode.";
+            throw new IllegalStateException(String.format(message, decision.getOwner(), method));
+        }
+    }
+
+    /**
+     * Finds the decision for the given method, or null if the method does not have
+     * {@link HasAccess}. Methods without the annotation are remembered so they are
+     * only inspected once.
+     * 
+     * @param method The method being called.
+     * @return {@link AccessDecision} of the method or null.
+     */
+    public AccessDecision find(Method method) {
+        AccessDecision decision = decisions.get(method);
+        if(decision != null || unguarded.contains(method)) {
+            return decision;
+        }
+
+        HasAccess access = AnnotationUtils.findAnnotation(method, HasAccess.class);
+        if(access == null) {
+            unguarded.add(method);
+            return null;
+        }
+        return decisions.computeIfAbsent(method, m -> AccessDecision.resolve(access, m));
+    }
+
+    /**
+     * Gets the decision for the given method. Methods that were not seen on
+     * startup, such as interface methods of a proxy, are resolved on the first
+     * call and kept. An interface method can be implemented by beans with
+     * different rules, so the decision is only used if it came from the same
+     * annotation.
+     * 
+     * @param method The method being called, may be null if it is not known.
+     * @param access The annotation on the method.
+     * @return {@link AccessDecision} of the method.
+     */
+    public AccessDecision get(Method method, HasAccess access) {
+        if(method == null) {
+            return AccessDecision.resolve(access, null);
+        }
+
+        AccessDecision decision = decisions.computeIfAbsent(method, m -> AccessDecision.resolve(access, m));
+        if(decision.getAccess() == access || decision.getAccess().equals(access)) {
+            return decision;
+        }
+        return AccessDecision.resolve(access, method);
+    }
+}
@@ -1,28 +1,43 @@
 package com.hydro.common.annotations.aspects;
 
+import java.lang.reflect.Method;
+
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.dictionary.enums.WebRole;
 import com.hydro.common.exception.InsufficientPermissionsException;
 import com.hydro.common.jwt.utility.JwtHolder;
 
 /**
- * Aspect to check if a user has access to the provided data.
+ * Aspect to check if a user has access to the provided data. Services can set
+ * {@code security.has-access.mode} to {@code interceptor} to check controller
+ * methods with the
+ * {@link com.hydro.common.annotations.interceptors.HasAccessInterceptor}
+ * instead, the aspect is then not registered and startup fails if a bean other
+ * than a controller has {@link HasAccess}.
  * 
  * @author Sam Butler
  * @since July 31, 2021
  */
 @Aspect
 @Component
+@ConditionalOnProperty(name = "security.has-access.mode", havingValue = "aspect", matchIfMissing = true)
 public class HasAccessAspect {
 
     @Autowired
     private JwtHolder jwtHolder;
 
+    @Autowired(required = false)
+    private AccessDecisionRegistry accessDecisionRegistry = new AccessDecisionRegistry();
+
     /**
      * Determines if the caller has access to this data.
      * 
@@ -33,9 +48,19 @@ public class HasAccessAspect {
      */
     @Around(value = "@annotation(anno)", argNames = "jp, anno")
     public Object access(ProceedingJoinPoint joinPoint, HasAccess access) throws Throwable {
-        if(jwtHolder.getWebRole().getRank() < access.value().getRank()) {
-            throw new InsufficientPermissionsException(jwtHolder.getWebRole());
+        AccessDecision decision = accessDecisionRegistry.get(method(joinPoint), access);
+        WebRole role = jwtHolder.getWebRole();
+        if(!decision.allows(role)) {
+            throw new InsufficientPermissionsException(role);
+        }
+        if(decision.requiresOwner(role) && !decision.isOwner(jwtHolder.getSnapshot(), joinPoint.getArgs())) {
+            throw new InsufficientPermissionsException(String.format("Role '%s' can only access data it owns", role));
         }
         return joinPoint.proceed();
     }
+
+    private Method method(ProceedingJoinPoint joinPoint) {
+        Signature signature = joinPoint.getSignature();
+        return signature instanceof MethodSignature ? ((MethodSignature) signature).getMethod() : null;
+    }
 }
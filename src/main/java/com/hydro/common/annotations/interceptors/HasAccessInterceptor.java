@@ -0,0 +1,107 @@
+package com.hydro.common.annotations.interceptors;
+
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.hydro.common.annotations.aspects.AccessDecision;
+import com.hydro.common.annotations.aspects.AccessDecisionRegistry;
+import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.common.jwt.utility.JwtHolder;
+
+/**
+ * Checks {@link HasAccess} on controller methods before the handler is called,
+ * without the aspect proxy or a join point per call. The decision of every
+ * handler method is resolved on startup by the {@link AccessDecisionRegistry}.
+ * 
+ * The interceptor replaces the aspect when {@code security.has-access.mode} is
+ * set to {@code interceptor}. Only controller methods are checked in this mode,
+ * and the arguments are not bound yet, so the owner is read from the path
+ * variable or request parameter the owner parameter is bound to. The
+ * {@link AccessDecisionRegistry} fails startup for anything this mode can not
+ * check.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@ConditionalOnProperty(name = "security.has-access.mode", havingValue = "interceptor")
+public class HasAccessInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+    private final JwtHolder jwtHolder;
+
+    private final AccessDecisionRegistry accessDecisionRegistry;
+
+    public HasAccessInterceptor(JwtHolder jwtHolder, AccessDecisionRegistry accessDecisionRegistry) {
+        this.jwtHolder = jwtHolder;
+        this.accessDecisionRegistry = accessDecisionRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if(!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        AccessDecision decision = accessDecisionRegistry.find(((HandlerMethod) handler).getMethod());
+        if(decision == null) {
+            return true;
+        }
+
+        WebRole role = jwtHolder.getWebRole();
+        if(!decision.allows(role)) {
+            throw new InsufficientPermissionsException(role);
+        }
+        if(decision.requiresOwner(role) && !isOwner(decision, request)) {
+            throw new InsufficientPermissionsException(String.format("Role '%s' can only access data it owns", role));
+        }
+        return true;
+    }
+
+    private boolean isOwner(AccessDecision decision, HttpServletRequest request) {
+        String owner = ownerValue(decision, request);
+        if(owner == null) {
+            return false;
+        }
+
+        try {
+            return decision.isOwner(jwtHolder.getSnapshot(), Integer.parseInt(owner));
+        }
+        catch(NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String ownerValue(AccessDecision decision, HttpServletRequest request) {
+        String binding = decision.getOwnerBinding();
+        if(binding == null) {
+            return null;
+        }
+        if(!decision.isOwnerPathVariable()) {
+            return request.getParameter(binding);
+        }
+
+        Map<String, String> pathVariables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return pathVariables != null ? pathVariables.get(binding) : null;
+    }
+}
@@ -8,7 +8,9 @@ import java.lang.annotation.Target;
 import com.hydro.common.dictionary.enums.WebRole;
 
 /**
- * Annotation for checking if user has access to an endpoint.
+ * Annotation for checking if user has access to an endpoint. The rules are
+ * resolved once per method, see
+ * {@link com.hydro.common.annotations.aspects.AccessDecision}.
  * 
  * @author Sam Butler
  * @since July 31, 2021
@@ -16,5 +18,28 @@ import com.hydro.common.dictionary.enums.WebRole;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface HasAccess {
+
+    /**
+     * The lowest role that can call the method.
+     */
     WebRole value() default WebRole.USER;
+
+    /**
+     * The only roles that can call the method. Empty allows every role of at least
+     * {@link #value()}.
+     */
+    WebRole[] roles() default {};
+
+    /**
+     * Name of the parameter holding the user id that owns the data, or a
+     * {@link com.hydro.common.dictionary.data.HydroSystem} whose owner is used.
+     * When set the caller has to own the data unless their role is at least
+     * {@link #ownerBypass()}.
+     */
+    String owner() default "";
+
+    /**
+     * The lowest role that can call the method for data it does not own.
+     */
+    WebRole ownerBypass() default WebRole.ADMIN;
 }
@@ -2,21 +2,44 @@ package com.hydro.common.datetime;
 
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class containing static methods for mapping DateTime objects to/from
  * String values for use in DAOs. It is expected that these methods will be
  * statically imported if using Local Date Time objects.
  * 
+ * Formatters and time zones are looked up once and cached, and dates in the
+ * default sql format are written digit by digit without a formatter.
+ * {@link Date} patterns only go through {@link DateTimeFormatter} when every
+ * letter prints the same as it does in {@link SimpleDateFormat}, the numeric
+ * year, month, day, hour, minute, second and {@code SSS} millis fields. Any
+ * other pattern is printed by a {@link SimpleDateFormat} kept per thread.
+ * 
  * @author Sam Butler
  * @since May 27, 2022
  */
 public class DateTimeMapper {
     private static final String DATE_TIME_PRINT = "yyyy-MM-dd HH:mm:ss";
 
+    private static final int MAXIMUM_CACHED_FORMATS = 256;
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private static final Map<String, ThreadLocal<SimpleDateFormat>> SIMPLE_FORMATS = new ConcurrentHashMap<>();
+
+    private static final Map<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    private static final Map<String, TimeZone> TIME_ZONES = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<char[]> DATE_TIME_BUFFER = ThreadLocal
+            .withInitial(() -> new char[DATE_TIME_PRINT.length()]);
+
     /**
      * Format a {@link Date} object based on the given format. The default timezone
      * used will be UTC.
@@ -38,8 +61,15 @@ public class DateTimeMapper {
      * @return {@link String} of the formatted date.
      */
     public static String printDate(Date dt, String format, String timezone) {
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone(timezone));
+        if(DATE_TIME_PRINT.equals(format)) {
+            return printDefault(LocalDateTime.ofInstant(dt.toInstant(), zone(timezone)));
+        }
+        if(isJavaTimePattern(format)) {
+            return formatter(format).format(dt.toInstant().atZone(zone(timezone)));
+        }
+
+        SimpleDateFormat simpleDateFormat = simpleDateFormat(format);
+        simpleDateFormat.setTimeZone(timeZone(timezone));
         return simpleDateFormat.format(dt);
     }
 
@@ -51,8 +81,12 @@ public class DateTimeMapper {
      * @return {@link String} of the formatted date.
      */
     public static String printDate(LocalDateTime dt, String format) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-        return dt.format(formatter);
+        if(DATE_TIME_PRINT.equals(format)) {
+            return printDefault(dt);
+        }
+
+        DateTimeFormatter formatter = formatter(format);
+        return dt.format(formatter != null ? formatter : DateTimeFormatter.ofPattern(format));
     }
 
     /**
@@ -82,4 +116,173 @@ public class DateTimeMapper {
         }
         return printDate(dt, DATE_TIME_PRINT);
     }
+
+    /**
+     * Writes the date in the default sql format straight into a reused buffer.
+     * Years that do not fit in four digits go through the formatter.
+     * 
+     * @param dt The date to format.
+     * @return {@link String} of the formatted date.
+     */
+    private static String printDefault(LocalDateTime dt) {
+        int year = dt.getYear();
+        if(year < 0 || year > 9999) {
+            return dt.format(formatter(DATE_TIME_PRINT));
+        }
+
+        char[] buffer = DATE_TIME_BUFFER.get();
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, dt.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, dt.getDayOfMonth(), 2);
+        buffer[10] = ' ';
+        writeDigits(buffer, 11, dt.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, dt.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, dt.getSecond(), 2);
+        return new String(buffer);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int length) {
+        for(int i = offset + length - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Checks if the pattern prints the same through {@link DateTimeFormatter} as
+     * through {@link SimpleDateFormat}. Only numeric fields that both read the
+     * same way are allowed, letters such as {@code u}, {@code F} or a fraction
+     * other than {@code SSS} mean something else in {@link DateTimeFormatter}.
+     * Quotes and the characters {@link DateTimeFormatter} reserves are left to
+     * {@link SimpleDateFormat} as well.
+     * 
+     * @param format The pattern to check.
+     * @return {@code true} if the pattern can be printed by a
+     *         {@link DateTimeFormatter}.
+     */
+    private static boolean isJavaTimePattern(String format) {
+        int i = 0;
+        while(i < format.length()) {
+            char c = format.charAt(i);
+            int end = i + 1;
+            while(end < format.length() && format.charAt(end) == c) {
+                end++;
+            }
+
+            int count = end - i;
+            switch(c) {
+                case 'y':
+                    break;
+                case 'M':
+                case 'd':
+                case 'H':
+                case 'm':
+                case 's':
+                    if(count > 2) {
+                        return false;
+                    }
+                    break;
+                case 'S':
+                    if(count != 3) {
+                        return false;
+                    }
+                    break;
+                default:
+                    if(Character.isLetter(c) || "'[]{}#".indexOf(c) >= 0) {
+                        return false;
+                    }
+            }
+            i = end;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the {@link SimpleDateFormat} of the pattern for the current thread.
+     * Once the cache is full new patterns get a new format on every call.
+     * 
+     * @param format The pattern of the format.
+     * @return {@link SimpleDateFormat} of the pattern.
+     */
+    private static SimpleDateFormat simpleDateFormat(String format) {
+        ThreadLocal<SimpleDateFormat> simpleDateFormat = SIMPLE_FORMATS.get(format);
+        if(simpleDateFormat == null) {
+            // Invalid patterns throw here before anything is cached
+            SimpleDateFormat created = new SimpleDateFormat(format);
+            if(SIMPLE_FORMATS.size() >= MAXIMUM_CACHED_FORMATS) {
+                return created;
+            }
+            simpleDateFormat = SIMPLE_FORMATS.computeIfAbsent(format, f -> ThreadLocal
+                    .withInitial(() -> new SimpleDateFormat(f)));
+        }
+        return simpleDateFormat.get();
+    }
+
+    /**
+     * Gets the cached formatter for the pattern. Returns null for patterns that
+     * {@link DateTimeFormatter} does not accept.
+     * 
+     * @param format The pattern of the formatter.
+     * @return {@link DateTimeFormatter} of the pattern or null.
+     */
+    private static DateTimeFormatter formatter(String format) {
+        DateTimeFormatter formatter = FORMATTERS.get(format);
+        if(formatter != null) {
+            return formatter;
+        }
+
+        try {
+            formatter = DateTimeFormatter.ofPattern(format);
+        }
+        catch(IllegalArgumentException e) {
+            return null;
+        }
+        if(FORMATTERS.size() < MAXIMUM_CACHED_FORMATS) {
+            FORMATTERS.putIfAbsent(format, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * Gets the cached zone for the time zone id. Unknown ids are treated as GMT
+     * the same way {@link TimeZone#getTimeZone(String)} does.
+     * 
+     * @param timezone The time zone id.
+     * @return {@link ZoneId} of the time zone.
+     */
+    private static ZoneId zone(String timezone) {
+        ZoneId zone = ZONES.get(timezone);
+        if(zone != null) {
+            return zone;
+        }
+
+        zone = timeZone(timezone).toZoneId();
+        if(ZONES.size() < MAXIMUM_CACHED_FORMATS) {
+            ZONES.putIfAbsent(timezone, zone);
+        }
+        return zone;
+    }
+
+    /**
+     * Gets the cached {@link TimeZone} for the time zone id, unknown ids are GMT.
+     * 
+     * @param timezone The time zone id.
+     * @return {@link TimeZone} of the time zone.
+     */
+    private static TimeZone timeZone(String timezone) {
+        TimeZone zone = TIME_ZONES.get(timezone);
+        if(zone != null) {
+            return zone;
+        }
+
+        zone = TimeZone.getTimeZone(timezone);
+        if(TIME_ZONES.size() < MAXIMUM_CACHED_FORMATS) {
+            TIME_ZONES.putIfAbsent(timezone, zone);
+        }
+        return zone;
+    }
 }
@@ -1,14 +1,16 @@
 package com.hydro.common.dictionary.data;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import com.hydro.common.dictionary.enums.Environment;
 
 /**
  * Contains the structured alphanumeric part number. This number is generated
  * for each individual hydroponic system so it can be identified.
  * 
+ * The part number can also be stored as a single long, see {@link #toLong()}.
+ * The system id takes the low 20 bits, the environment ordinal the 8 bits
+ * above it and the product number the high 36 bits, so equal part numbers
+ * always have the same long.
+ * 
  * @author Sam Butler
  * @since May 28, 2022
  */
@@ -17,13 +19,21 @@ public class PartNumber {
                                                      + "- \"pppppp\" is the random six-digit product number\n"
                                                      + "- \"E\" is the alphanumeric single-char environment (D,P,L)\n"
                                                      + "- \"ssssss\" is the six-digit system id (zero-padded)\n";
-    private static final Pattern PART_NUMBER_PATTERN = Pattern
-            .compile("(?<productnumber>[0-9]{6})(?<environment>[D|P|L])(?<system>[0-9]{6})");
+
+    private static final int LENGTH = 13;
+
+    private static final int DIGITS = 6;
+
+    private static final int MAX_NUMBER = 999999;
+
+    private static final Environment[] ENVIRONMENTS = Environment.values();
 
     private int productNumber;
     private Environment environment;
     private int systemId;
 
+    private transient String text;
+
     /**
      * Default constructor for deserializing objects correctly.
      */
@@ -38,16 +48,72 @@ public class PartNumber {
         if(partNumber == null) {
             throw new IllegalArgumentException("Part Number must not be null. " + PART_NUMBER_FORMAT);
         }
-
-        var matcher = PART_NUMBER_PATTERN.matcher(partNumber);
-        if(!matcher.matches()) {
+        if(!read(partNumber)) {
             throw new IllegalArgumentException(String.format("Part Number \"%s\" is incorrectly formatted. %s",
                                                              partNumber, PART_NUMBER_FORMAT));
         }
+        text = partNumber;
+    }
+
+    /**
+     * Initialize a Part Number Object from its already decoded parts.
+     * 
+     * @param productNumber The six-digit product number.
+     * @param environment   The environment of the system.
+     * @param systemId      The six-digit system id.
+     */
+    public PartNumber(int productNumber, Environment environment, int systemId) {
+        this.productNumber = productNumber;
+        this.environment = environment;
+        this.systemId = systemId;
+    }
+
+    /**
+     * Parses the part number, or returns null if it is not formatted correctly.
+     * Unlike the constructor no exception is built for a bad part number, so it
+     * is cheap to call on large amounts of untrusted input.
+     * 
+     * @param partNumber The encoded part number.
+     * @return {@link PartNumber} or null if it is not valid.
+     */
+    public static PartNumber tryParse(CharSequence partNumber) {
+        PartNumber parsed = new PartNumber();
+        if(partNumber == null || !parsed.read(partNumber)) {
+            return null;
+        }
+        return parsed;
+    }
+
+    /**
+     * Decodes a part number from the long created by {@link #toLong()}.
+     * 
+     * @param packed The packed part number.
+     * @return {@link PartNumber} of the long.
+     * @throws IllegalArgumentException If the long is not a valid part number.
+     */
+    public static PartNumber fromLong(long packed) {
+        long productNumber = packed >>> 28;
+        int environment = (int) (packed >>> 20 & 0xFF);
+        int systemId = (int) (packed & 0xFFFFF);
+        if(productNumber > MAX_NUMBER || environment >= ENVIRONMENTS.length || systemId > MAX_NUMBER) {
+            throw new IllegalArgumentException(String.format("Packed Part Number %d is not valid.", packed));
+        }
+        return new PartNumber((int) productNumber, ENVIRONMENTS[environment], systemId);
+    }
 
-        environment = Environment.get(matcher.group("environment"));
-        productNumber = valueOf(matcher, "productnumber");
-        systemId = valueOf(matcher, "system");
+    /**
+     * Packs the product number, environment and system id into one long. The
+     * six-digit numbers each fit into 20 bits.
+     * 
+     * @return long of the part number.
+     * @throws IllegalStateException If the part number has no environment.
+     */
+    public long toLong() {
+        if(environment == null) {
+            throw new IllegalStateException(String.format("Part Number with product %06d and system %06d has no "
+                    + "environment to pack.", productNumber, systemId));
+        }
+        return (long) productNumber << 28 | (long) environment.ordinal() << 20 | systemId;
     }
 
     public int getProductNumber() {
@@ -63,7 +129,12 @@ public class PartNumber {
     }
 
     public String build() {
-        return String.format("%06d%s%06d", productNumber, environment.getTextId(), systemId);
+        String result = text;
+        if(result == null) {
+            result = format();
+            text = result;
+        }
+        return result;
     }
 
     @Override
@@ -73,18 +144,78 @@ public class PartNumber {
 
     @Override
     public boolean equals(Object other) {
-        if(other == null) {
+        if(this == other) {
+            return true;
+        }
+        if(!(other instanceof PartNumber)) {
             return false;
         }
-        return build().equals(other.toString());
+        PartNumber partNumber = (PartNumber) other;
+        return productNumber == partNumber.productNumber && environment == partNumber.environment
+               && systemId == partNumber.systemId;
     }
 
     @Override
     public int hashCode() {
-        return build().hashCode();
+        return environment != null ? Long.hashCode(toLong()) : 31 * productNumber + systemId;
     }
 
-    private static int valueOf(Matcher matcher, String group) {
-        return Integer.valueOf(matcher.group(group));
+    private String format() {
+        if(productNumber < 0 || productNumber > MAX_NUMBER || systemId < 0 || systemId > MAX_NUMBER) {
+            return String.format("%06d%s%06d", productNumber, environment.getTextId(), systemId);
+        }
+
+        char[] chars = new char[LENGTH];
+        writeDigits(chars, 0, productNumber);
+        chars[DIGITS] = environment.getTextId().charAt(0);
+        writeDigits(chars, DIGITS + 1, systemId);
+        return new String(chars);
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value) {
+        for(int i = offset + DIGITS - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private boolean read(CharSequence partNumber) {
+        if(partNumber.length() != LENGTH) {
+            return false;
+        }
+
+        environment = environment(partNumber.charAt(DIGITS));
+        productNumber = digits(partNumber, 0);
+        systemId = digits(partNumber, DIGITS + 1);
+        return environment != null && productNumber >= 0 && systemId >= 0;
+    }
+
+    /**
+     * Reads the six digits at the offset, or returns -1 if any of them is not a
+     * digit.
+     */
+    private static int digits(CharSequence partNumber, int offset) {
+        int value = 0;
+        for(int i = offset; i < offset + DIGITS; i++) {
+            int digit = partNumber.charAt(i) - '0';
+            if(digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static Environment environment(char textId) {
+        switch(textId) {
+        case 'D':
+            return Environment.DEVELOPMENT;
+        case 'P':
+            return Environment.PRODUCTION;
+        case 'L':
+            return Environment.LOCAL;
+        default:
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
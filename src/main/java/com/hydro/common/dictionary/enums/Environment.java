@@ -1,7 +1,5 @@
 package com.hydro.common.dictionary.enums;
 
-import java.util.Arrays;
-
 import org.springframework.util.Assert;
 
 /**
@@ -28,16 +26,15 @@ public enum Environment implements TextEnum {
     }
 
     /**
-     * Will get the environment object enum from the passed in text value. If the
-     * enum is invalid it will return the {@link Environment#LOCAL} environment by
-     * default.
+     * Will get the environment object enum from the passed in text id or name. If
+     * the enum is invalid it will return the {@link Environment#LOCAL} environment
+     * by default.
      * 
      * @param text The text to process.
      * @return {@link Environment} Object
      */
     public static Environment get(String text) {
         Assert.notNull(text, "Text ID can not be null");
-        return Arrays.asList(Environment.values()).stream().filter(e -> e.getTextId().equals(text.toUpperCase()))
-                .findAny().orElse(LOCAL);
+        return TextEnumCodec.of(Environment.class).decode(text, LOCAL);
     }
 }
\ No newline at end of file
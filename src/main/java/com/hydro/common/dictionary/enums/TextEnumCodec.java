@@ -0,0 +1,237 @@
+package com.hydro.common.dictionary.enums;
+
+import java.lang.reflect.Array;
+
+/**
+ * Converts between the constants of a {@link TextEnum} and their text. Every
+ * constant can be looked up by its text id or its name, ignoring ASCII case.
+ * The lookup table of each enum is built once and is not changed after that,
+ * so lookups do not lock or allocate.
+ * 
+ * When the text id of one constant is the name of another, the text id wins.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class TextEnumCodec<E extends Enum<E> & TextEnum> {
+    private static final ClassValue<TextEnumCodec<?>> CODECS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        protected TextEnumCodec<?> computeValue(Class<?> type) {
+            if(!type.isEnum() || !TextEnum.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(type.getName() + " is not a TextEnum");
+            }
+            return new TextEnumCodec(type);
+        }
+    };
+
+    private final Class<E> type;
+
+    private final E[] constants;
+
+    private final String[] keys;
+
+    private final E[] values;
+
+    // Keys as written, probed by the cached String hash before folding case
+    private final String[] exactKeys;
+
+    private final E[] exactValues;
+
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    private TextEnumCodec(Class<E> type) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+
+        int capacity = Integer.highestOneBit(Math.max(constants.length * 4, 2) - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = (E[]) Array.newInstance(type, capacity);
+        this.exactKeys = new String[capacity];
+        this.exactValues = (E[]) Array.newInstance(type, capacity);
+        this.mask = capacity - 1;
+
+        for(E constant : constants) {
+            put(constant.getTextId(), constant);
+        }
+        for(E constant : constants) {
+            put(constant.name(), constant);
+        }
+    }
+
+    /**
+     * Gets the codec for the given enum.
+     * 
+     * @param <E>  The enum type.
+     * @param type The class of the enum.
+     * @return {@link TextEnumCodec} of the enum.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & TextEnum> TextEnumCodec<E> of(Class<E> type) {
+        return (TextEnumCodec<E>) CODECS.get(type);
+    }
+
+    /**
+     * Gets the codec for a class that is only known to be a {@link TextEnum}
+     * enum at runtime, such as the target of a conversion.
+     * 
+     * @param type The class of the enum.
+     * @return {@link TextEnumCodec} of the enum.
+     * @throws IllegalArgumentException If the class is not a {@link TextEnum}
+     *                                  enum.
+     */
+    public static TextEnumCodec<?> forClass(Class<?> type) {
+        return CODECS.get(type);
+    }
+
+    /**
+     * Gets the constant with the given text id or name.
+     * 
+     * @param text The text id or name of the constant.
+     * @return The constant, or null if there is no match.
+     */
+    public E decode(CharSequence text) {
+        if(text == null) {
+            return null;
+        }
+        if(text instanceof String) {
+            E constant = decodeExact((String) text);
+            if(constant != null) {
+                return constant;
+            }
+        }
+
+        for(int i = hash(text) & mask;; i = (i + 1) & mask) {
+            String key = keys[i];
+            if(key == null) {
+                return null;
+            }
+            if(matches(key, text)) {
+                return values[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the constant with the given text id or name, or the default value if
+     * there is no match.
+     * 
+     * @param text         The text id or name of the constant.
+     * @param defaultValue The constant to return when there is no match.
+     * @return The matching constant or the default value.
+     */
+    public E decode(CharSequence text, E defaultValue) {
+        E constant = decode(text);
+        return constant != null ? constant : defaultValue;
+    }
+
+    /**
+     * Gets the constant with the given text id or name. This is a drop in
+     * replacement for {@code valueOf} that also accepts the text id.
+     * 
+     * @param text The text id or name of the constant.
+     * @return The matching constant.
+     * @throws IllegalArgumentException If there is no match.
+     */
+    public E valueOf(CharSequence text) {
+        E constant = decode(text);
+        if(constant == null) {
+            throw new IllegalArgumentException(String.format("No %s constant for '%s'", type.getSimpleName(), text));
+        }
+        return constant;
+    }
+
+    /**
+     * Gets the constant with the given ordinal.
+     * 
+     * @param ordinal The ordinal of the constant.
+     * @return The constant, or null if the ordinal is out of range.
+     */
+    public E fromOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+
+    /**
+     * Gets the text id of the constant.
+     * 
+     * @param constant The constant to encode.
+     * @return String of the text id, or null if the constant is null.
+     */
+    public String encode(E constant) {
+        return constant != null ? constant.getTextId() : null;
+    }
+
+    public Class<E> getType() {
+        return type;
+    }
+
+    private E decodeExact(String text) {
+        for(int i = spread(text.hashCode()) & mask;; i = (i + 1) & mask) {
+            String key = exactKeys[i];
+            if(key == null) {
+                return null;
+            }
+            if(key.equals(text)) {
+                return exactValues[i];
+            }
+        }
+    }
+
+    private void put(String key, E constant) {
+        if(key == null) {
+            return;
+        }
+        putExact(key, constant);
+
+        int i = hash(key) & mask;
+        while(keys[i] != null) {
+            if(matches(keys[i], key)) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = constant;
+    }
+
+    private void putExact(String key, E constant) {
+        int i = spread(key.hashCode()) & mask;
+        while(exactKeys[i] != null) {
+            if(exactKeys[i].equals(key)) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        exactKeys[i] = key;
+        exactValues[i] = constant;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(CharSequence text) {
+        int hash = 0;
+        for(int i = 0; i < text.length(); i++) {
+            hash = 31 * hash + upperCase(text.charAt(i));
+        }
+        return spread(hash);
+    }
+
+    private static boolean matches(String key, CharSequence text) {
+        if(key.length() != text.length()) {
+            return false;
+        }
+        for(int i = 0; i < key.length(); i++) {
+            if(upperCase(key.charAt(i)) != upperCase(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char upperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hydro.common.dictionary.enums;
+
+import java.util.Set;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts request parameters and path variables into {@link TextEnum}
+ * constants through the {@link TextEnumCodec}, so they are matched by text id
+ * or name ignoring case, the same as jwt claims and json. Spring Boot adds the
+ * converter to the web conversion service, where it takes the place of the
+ * default {@link Enum} conversion for these types.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class TextEnumConverter implements ConditionalGenericConverter {
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return Set.of(new ConvertiblePair(String.class, TextEnum.class));
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return targetType.getType().isEnum();
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if(source == null || ((String) source).isBlank()) {
+            return null;
+        }
+        return TextEnumCodec.forClass(targetType.getType()).valueOf(((String) source).trim());
+    }
+}
@@ -0,0 +1,112 @@
+package com.hydro.common.dictionary.enums;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Jackson module that reads {@link TextEnum} constants through the
+ * {@link TextEnumCodec}, accepting the text id or name in any case, and writes
+ * them by name from pre-encoded strings. Spring Boot registers the module with
+ * its object mapper, and the jwt claim converter uses it as well.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class TextEnumModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public TextEnumModule() {
+        super(TextEnumModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializers(new TextEnumDeserializers());
+        context.addSerializers(new TextEnumSerializers());
+    }
+
+    private static boolean isTextEnum(Class<?> type) {
+        return type.isEnum() && TextEnum.class.isAssignableFrom(type);
+    }
+
+    private static class TextEnumDeserializers extends Deserializers.Base {
+
+        @Override
+        public JsonDeserializer<?> findEnumDeserializer(Class<?> type, DeserializationConfig config,
+                                                        BeanDescription beanDesc) {
+            return isTextEnum(type) ? new TextEnumDeserializer(TextEnumCodec.forClass(type)) : null;
+        }
+    }
+
+    private static class TextEnumSerializers extends Serializers.Base {
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            return isTextEnum(type.getRawClass()) ? new TextEnumSerializer(type.getRawClass()) : null;
+        }
+    }
+
+    private static class TextEnumDeserializer extends JsonDeserializer<Object> {
+        private final TextEnumCodec<?> codec;
+
+        TextEnumDeserializer(TextEnumCodec<?> codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if(parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                Object constant = codec.fromOrdinal(parser.getIntValue());
+                return constant != null ? constant
+                                        : context.handleWeirdNumberValue(codec.getType(), parser.getNumberValue(),
+                                                                         "not a valid ordinal");
+            }
+            if(!parser.hasToken(JsonToken.VALUE_STRING)) {
+                return context.handleUnexpectedToken(codec.getType(), parser);
+            }
+
+            Object constant = codec.decode(CharBuffer.wrap(parser.getTextCharacters(), parser.getTextOffset(),
+                                                           parser.getTextLength()));
+            return constant != null ? constant
+                                    : context.handleWeirdStringValue(codec.getType(), parser.getText(),
+                                                                     "not a text id or name of the enum");
+        }
+    }
+
+    private static class TextEnumSerializer extends JsonSerializer<Object> {
+        private final SerializedString[] names;
+
+        TextEnumSerializer(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            names = new SerializedString[constants.length];
+            for(int i = 0; i < constants.length; i++) {
+                names[i] = new SerializedString(((Enum<?>) constants[i]).name());
+            }
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(names[((Enum<?>) value).ordinal()]);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.hydro.common.dictionary.importer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+
+/**
+ * Imports {@link HydroSystem} objects from a file with one system per line, in
+ * the form {@code partNumber[,uuid[,name[,ownerUserId]]]}. Fields are trimmed
+ * and are not quoted, so names can not contain commas. Blank lines, lines
+ * starting with {@code #} and a {@code partNumber} header on the first line are
+ * skipped.
+ * 
+ * The file is split into byte ranges that are read in parallel through one
+ * {@link FileChannel}, each with its own fixed size buffer. Systems are handed
+ * to the callback in batches as they are read and bad lines are counted and
+ * only the first few kept, so the memory used does not depend on the size of
+ * the file. Bad lines are validated without exceptions.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class HydroSystemImporter {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_MAX_ERRORS = 1000;
+    public static final int MAX_LINE_LENGTH = 4096;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final int MAX_FIELDS = 4;
+
+    private static final String HEADER = "partNumber";
+
+    private final int batchSize;
+
+    private final int parallelism;
+
+    private final int maxErrors;
+
+    public HydroSystemImporter() {
+        this(DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_ERRORS);
+    }
+
+    /**
+     * Creates an importer with the given limits.
+     * 
+     * @param batchSize   The number of systems passed to the callback at once.
+     * @param parallelism The number of threads reading the file.
+     * @param maxErrors   The number of errors kept in the result.
+     */
+    public HydroSystemImporter(int batchSize, int parallelism, int maxErrors) {
+        if(batchSize < 1 || parallelism < 1 || maxErrors < 0) {
+            throw new IllegalArgumentException("Batch size and parallelism must be positive, max errors not negative");
+        }
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Imports the systems in the file. The callback is never called by two
+     * threads at once, but batches from different parts of the file can arrive
+     * out of order.
+     * 
+     * @param file    The file to import.
+     * @param batches Callback for each batch of systems read.
+     * @return {@link ImportResult} of the import.
+     * @throws IOException If the file could not be read.
+     */
+    public ImportResult importFile(Path file, Consumer<List<HydroSystem>> batches) throws IOException {
+        Consumer<List<HydroSystem>> callback = synchronizedConsumer(batches);
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunkCount = (int) Math.max(1, Math.min((long) parallelism * CHUNKS_PER_THREAD, size / MIN_CHUNK_SIZE));
+
+            List<Chunk> chunks = new ArrayList<>(chunkCount);
+            for(int i = 0; i < chunkCount; i++) {
+                chunks.add(new Chunk(channel, size * i / chunkCount, size * (i + 1) / chunkCount, i == 0, callback));
+            }
+            run(chunks);
+            return result(chunks);
+        }
+    }
+
+    private void run(List<Chunk> chunks) throws IOException {
+        if(chunks.size() == 1 || parallelism == 1) {
+            for(Chunk chunk : chunks) {
+                chunk.call();
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()));
+        try {
+            for(Future<Void> future : executor.invokeAll(chunks)) {
+                future.get();
+            }
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import was interrupted");
+        }
+        catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Combines the chunk counts, turning the line numbers of the errors in each
+     * chunk into line numbers of the file.
+     */
+    private ImportResult result(List<Chunk> chunks) {
+        long lineCount = 0;
+        long systemCount = 0;
+        long errorCount = 0;
+        List<ImportError> errors = new ArrayList<>();
+        for(Chunk chunk : chunks) {
+            for(ImportError error : chunk.errors) {
+                if(errors.size() < maxErrors) {
+                    errors.add(new ImportError(lineCount + error.getLineNumber(), error.getMessage()));
+                }
+            }
+            lineCount += chunk.lineCount;
+            systemCount += chunk.systemCount;
+            errorCount += chunk.errorCount;
+        }
+        return new ImportResult(lineCount, systemCount, errorCount, errors);
+    }
+
+    private static Consumer<List<HydroSystem>> synchronizedConsumer(Consumer<List<HydroSystem>> batches) {
+        Object lock = new Object();
+        return batch -> {
+            synchronized(lock) {
+                batches.accept(batch);
+            }
+        };
+    }
+
+    /**
+     * Reads the lines that start in a byte range of the file. A line that runs
+     * past the end of the range is read to its end, and the partial line at the
+     * start of the range is left to the chunk before it.
+     */
+    private class Chunk implements Callable<Void> {
+        private final FileChannel channel;
+
+        private final long start;
+
+        private final long end;
+
+        private final boolean first;
+
+        private final Consumer<List<HydroSystem>> callback;
+
+        // Holds a line that runs past the end of the buffer
+        private final byte[] carry = new byte[MAX_LINE_LENGTH];
+
+        private final List<ImportError> errors = new ArrayList<>();
+
+        private int carryLength;
+
+        private boolean carrying;
+
+        private boolean tooLong;
+
+        private List<HydroSystem> batch;
+
+        private long lineCount;
+
+        private long systemCount;
+
+        private long errorCount;
+
+        Chunk(FileChannel channel, long start, long end, boolean first, Consumer<List<HydroSystem>> callback) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.first = first;
+            this.callback = callback;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public Void call() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+            long position = start > 0 ? start - 1 : 0;
+            boolean skipping = start > 0;
+
+            read:
+            while(true) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if(read <= 0) {
+                    break;
+                }
+
+                int lineStart = 0;
+                if(skipping) {
+                    int newline = indexOfNewline(bytes, 0, read);
+                    skipping = newline < 0;
+                    lineStart = newline + 1;
+                }
+
+                while(!skipping && lineStart < read) {
+                    if(!carrying && position + lineStart >= end) {
+                        break read;
+                    }
+
+                    int newline = indexOfNewline(bytes, lineStart, read);
+                    if(newline < 0) {
+                        append(bytes, lineStart, read);
+                        break;
+                    }
+                    if(carrying) {
+                        append(bytes, lineStart, newline);
+                        endLine(carry, 0, carryLength);
+                    }
+                    else {
+                        tooLong = newline - lineStart > MAX_LINE_LENGTH;
+                        endLine(bytes, lineStart, newline);
+                    }
+                    lineStart = newline + 1;
+                }
+                position += read;
+            }
+
+            if(carrying) {
+                endLine(carry, 0, carryLength);
+            }
+            if(!batch.isEmpty()) {
+                callback.accept(batch);
+            }
+            return null;
+        }
+
+        private void append(byte[] bytes, int from, int to) {
+            int count = Math.min(to - from, MAX_LINE_LENGTH - carryLength);
+            System.arraycopy(bytes, from, carry, carryLength, count);
+            carryLength += count;
+            tooLong |= count < to - from;
+            carrying = true;
+        }
+
+        private void endLine(byte[] line, int from, int to) {
+            lineCount++;
+            if(to > from && line[to - 1] == '\r') {
+                to--;
+            }
+            readLine(line, from, to);
+            carryLength = 0;
+            carrying = false;
+            tooLong = false;
+        }
+
+        private void readLine(byte[] line, int from, int to) {
+            if(first && lineCount == 1 && to - from >= 3 && line[from] == (byte) 0xEF
+               && line[from + 1] == (byte) 0xBB && line[from + 2] == (byte) 0xBF) {
+                from += 3;
+            }
+            from = skipWhitespace(line, from, to);
+            if(from == to || line[from] == '#') {
+                return;
+            }
+            if(tooLong) {
+                error("Line is longer than %d bytes", MAX_LINE_LENGTH);
+                return;
+            }
+
+            String[] fields = new String[MAX_FIELDS];
+            int fieldCount = 0;
+            for(int i = from; i <= to; i++) {
+                if(i == to || line[i] == ',') {
+                    if(fieldCount == MAX_FIELDS) {
+                        error("Line has more than %d fields", MAX_FIELDS);
+                        return;
+                    }
+                    fields[fieldCount++] = field(line, from, i);
+                    from = i + 1;
+                }
+            }
+
+            if(first && lineCount == 1 && HEADER.equalsIgnoreCase(fields[0])) {
+                return;
+            }
+
+            if(fields[0] == null) {
+                error("Part Number is missing", null);
+                return;
+            }
+
+            PartNumber partNumber = PartNumber.tryParse(fields[0]);
+            if(partNumber == null) {
+                error("Part Number \"%s\" is incorrectly formatted", fields[0]);
+                return;
+            }
+
+            HydroSystem system = new HydroSystem();
+            system.setPartNumber(partNumber);
+            system.setUuid(fields[1]);
+            system.setName(fields[2]);
+            if(fields[3] != null) {
+                int ownerUserId = toInt(fields[3]);
+                if(ownerUserId < 0) {
+                    error("Owner user id \"%s\" is not a number", fields[3]);
+                    return;
+                }
+                system.setOwnerUserId(ownerUserId);
+            }
+            add(system);
+        }
+
+        private void add(HydroSystem system) {
+            systemCount++;
+            batch.add(system);
+            if(batch.size() >= batchSize) {
+                callback.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        /**
+         * Counts the error on the current line. The message is only formatted for
+         * the errors that are kept, since a bad file can have millions of them.
+         */
+        private void error(String format, Object value) {
+            errorCount++;
+            if(errors.size() < maxErrors) {
+                errors.add(new ImportError(lineCount, String.format(format, value)));
+            }
+        }
+
+        /**
+         * Gets the trimmed field between the offsets, or null if it is empty.
+         */
+        private String field(byte[] line, int from, int to) {
+            from = skipWhitespace(line, from, to);
+            while(to > from && line[to - 1] <= ' ' && line[to - 1] >= 0) {
+                to--;
+            }
+            return from < to ? new String(line, from, to - from, StandardCharsets.UTF_8) : null;
+        }
+    }
+
+    private static int skipWhitespace(byte[] line, int from, int to) {
+        while(from < to && line[from] <= ' ' && line[from] >= 0) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int indexOfNewline(byte[] bytes, int from, int to) {
+        for(int i = from; i < to; i++) {
+            if(bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a non negative int, or returns -1 if the text is not one.
+     */
+    private static int toInt(String text) {
+        if(text.length() > 9) {
+            return -1;
+        }
+
+        int value = 0;
+        for(int i = 0; i < text.length(); i++) {
+            int digit = text.charAt(i) - '0';
+            if(digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
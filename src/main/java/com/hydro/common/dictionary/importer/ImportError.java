@@ -0,0 +1,31 @@
+package com.hydro.common.dictionary.importer;
+
+/**
+ * A line of an import file that could not be imported.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ImportError {
+    private final long lineNumber;
+
+    private final String message;
+
+    public ImportError(long lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Line %d: %s", lineNumber, message);
+    }
+}
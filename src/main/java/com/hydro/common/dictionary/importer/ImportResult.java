@@ -0,0 +1,47 @@
+package com.hydro.common.dictionary.importer;
+
+import java.util.List;
+
+/**
+ * Summary of an import by the {@link HydroSystemImporter}. Only the first
+ * errors by line number are kept, the error count includes all of them.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ImportResult {
+    private final long lineCount;
+
+    private final long systemCount;
+
+    private final long errorCount;
+
+    private final List<ImportError> errors;
+
+    public ImportResult(long lineCount, long systemCount, long errorCount, List<ImportError> errors) {
+        this.lineCount = lineCount;
+        this.systemCount = systemCount;
+        this.errorCount = errorCount;
+        this.errors = errors;
+    }
+
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    public long getSystemCount() {
+        return systemCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public List<ImportError> getErrors() {
+        return errors;
+    }
+
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+}
@@ -0,0 +1,441 @@
+package com.hydro.common.dictionary.registry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.util.Assert;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+
+/**
+ * In memory registry of {@link HydroSystem} objects that can be looked up by
+ * id, part number or uuid. Each key is indexed as primitives in an open
+ * addressing table, the id as an int, the part number as its packed long and
+ * the uuid as its two longs, so lookups do not box or build a string key.
+ * 
+ * Lookups never lock. Writes are serialized, since a system is in all three
+ * indexes and they should be updated together. A slot only ever holds the key
+ * it was first written with, removing a system leaves a marker behind, and
+ * growing a table builds a new one that is swapped in, so readers never see a
+ * slot with a partially written key.
+ * 
+ * Only uuids in the standard {@code 8-4-4-4-12} hex form are indexed, and they
+ * are matched case insensitively.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class HydroSystemRegistry {
+    public static final int DEFAULT_EXPECTED_SYSTEMS = 1024;
+
+    private static final int UUID_LENGTH = 36;
+
+    private static final byte[] HEX_DIGITS = new byte['f' + 1];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for(int i = 0; i < 10; i++) {
+            HEX_DIGITS['0' + i] = (byte) i;
+        }
+        for(int i = 0; i < 6; i++) {
+            HEX_DIGITS['a' + i] = (byte) (10 + i);
+            HEX_DIGITS['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final Index byId;
+
+    private final Index byPartNumber;
+
+    private final Index byUuid;
+
+    private final Object writeLock = new Object();
+
+    private volatile int size;
+
+    public HydroSystemRegistry() {
+        this(DEFAULT_EXPECTED_SYSTEMS);
+    }
+
+    /**
+     * Creates a registry sized for the given number of systems. The indexes are
+     * grown when more systems are added.
+     * 
+     * @param expectedSystems The number of systems expected.
+     */
+    public HydroSystemRegistry(int expectedSystems) {
+        byId = new Index(expectedSystems);
+        byPartNumber = new Index(expectedSystems);
+        byUuid = new Index(expectedSystems);
+    }
+
+    /**
+     * Adds the system to the registry. A system already registered with the same
+     * id is replaced, along with its part number and uuid. A part number or uuid
+     * can only belong to one system, so a system using the part number or uuid
+     * of a system with a different id is rejected and the registry is left
+     * unchanged.
+     * 
+     * @param system The system to add.
+     * @return The {@link HydroSystem} that was replaced, or null.
+     * @throws IllegalArgumentException If the part number or uuid belongs to a
+     *                                  system with a different id.
+     */
+    public HydroSystem put(HydroSystem system) {
+        Assert.notNull(system, "System can not be null");
+        synchronized(writeLock) {
+            UUID uuid = toUuid(system.getUuid());
+            if(hasPartNumber(system)) {
+                checkOwner(system, byPartNumber.get(system.getPartNumber().toLong(), 0), "Part number");
+            }
+            if(uuid != null) {
+                checkOwner(system, byUuid.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()), "Uuid");
+            }
+
+            HydroSystem previous = byId.put(system.getId(), 0, system);
+            if(hasPartNumber(system)) {
+                byPartNumber.put(system.getPartNumber().toLong(), 0, system);
+            }
+            if(uuid != null) {
+                byUuid.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), system);
+            }
+
+            if(previous == null) {
+                size++;
+            }
+            else {
+                removeKeys(previous);
+            }
+            return previous;
+        }
+    }
+
+    /**
+     * Adds all of the systems to the registry.
+     * 
+     * @param systems The systems to add.
+     * @throws IllegalArgumentException If the part number or uuid of a system
+     *                                  belongs to a system with a different id.
+     *                                  The systems before it are still added.
+     */
+    public void putAll(Collection<HydroSystem> systems) {
+        synchronized(writeLock) {
+            systems.forEach(this::put);
+        }
+    }
+
+    /**
+     * Removes the system with the given id from the registry.
+     * 
+     * @param id The id of the system.
+     * @return The {@link HydroSystem} that was removed, or null.
+     */
+    public HydroSystem remove(int id) {
+        synchronized(writeLock) {
+            HydroSystem previous = byId.remove(id, 0, null);
+            if(previous != null) {
+                removeKeys(previous);
+                size--;
+            }
+            return previous;
+        }
+    }
+
+    /**
+     * Gets the system with the given id.
+     * 
+     * @param id The id of the system.
+     * @return {@link HydroSystem} or null if it is not registered.
+     */
+    public HydroSystem getById(int id) {
+        return byId.get(id, 0);
+    }
+
+    /**
+     * Gets the system with the given part number.
+     * 
+     * @param partNumber The part number of the system.
+     * @return {@link HydroSystem} or null if it is not registered.
+     */
+    public HydroSystem getByPartNumber(PartNumber partNumber) {
+        if(partNumber == null || partNumber.getEnvironment() == null) {
+            return null;
+        }
+        return getByPartNumber(partNumber.toLong());
+    }
+
+    /**
+     * Gets the system with the given packed part number.
+     * 
+     * @param partNumber The part number of the system, see
+     *                   {@link PartNumber#toLong()}.
+     * @return {@link HydroSystem} or null if it is not registered.
+     */
+    public HydroSystem getByPartNumber(long partNumber) {
+        return byPartNumber.get(partNumber, 0);
+    }
+
+    /**
+     * Gets the system with the given uuid.
+     * 
+     * @param uuid The uuid of the system.
+     * @return {@link HydroSystem} or null if it is not registered.
+     */
+    public HydroSystem getByUuid(String uuid) {
+        return getByUuid(toUuid(uuid));
+    }
+
+    /**
+     * Gets the system with the given uuid.
+     * 
+     * @param uuid The uuid of the system.
+     * @return {@link HydroSystem} or null if it is not registered.
+     */
+    public HydroSystem getByUuid(UUID uuid) {
+        if(uuid == null) {
+            return null;
+        }
+        return byUuid.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Gets the number of registered systems.
+     * 
+     * @return int of the registry size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Estimates the memory used by the indexes, not counting the systems
+     * themselves. Assumes compressed object references of four bytes.
+     * 
+     * @return long of the estimated bytes.
+     */
+    public long getIndexBytes() {
+        return byId.getBytes() + byPartNumber.getBytes() + byUuid.getBytes();
+    }
+
+    private void removeKeys(HydroSystem system) {
+        if(hasPartNumber(system)) {
+            byPartNumber.remove(system.getPartNumber().toLong(), 0, system);
+        }
+        UUID uuid = toUuid(system.getUuid());
+        if(uuid != null) {
+            byUuid.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), system);
+        }
+    }
+
+    private static void checkOwner(HydroSystem system, HydroSystem owner, String key) {
+        if(owner != null && owner.getId() != system.getId()) {
+            String message = "%s of system '%d' is already registered to system '%d'";
+            throw new IllegalArgumentException(String.format(message, key, system.getId(), owner.getId()));
+        }
+    }
+
+        private static boolean hasPartNumber(HydroSystem system) {
+        return system.getPartNumber() != null && system.getPartNumber().getEnvironment() != null;
+    }
+
+    /**
+     * Reads a uuid in the standard form in one pass, or returns null if it is
+     * not one. Unlike {@link UUID#fromString(String)} it does not split the
+     * string or throw on bad input.
+     */
+    private static UUID toUuid(String uuid) {
+        if(uuid == null || uuid.length() != UUID_LENGTH || uuid.charAt(8) != '-' || uuid.charAt(13) != '-'
+           || uuid.charAt(18) != '-' || uuid.charAt(23) != '-') {
+            return null;
+        }
+
+        long first = hex(uuid, 0, 8);
+        long second = hex(uuid, 9, 13);
+        long third = hex(uuid, 14, 18);
+        long fourth = hex(uuid, 19, 23);
+        long fifth = hex(uuid, 24, UUID_LENGTH);
+        if((first | second | third | fourth | fifth) < 0) {
+            return null;
+        }
+        return new UUID(first << 32 | second << 16 | third, fourth << 48 | fifth);
+    }
+
+    /**
+     * Reads the hex digits between the offsets, or returns -1 if any of them is
+     * not a hex digit. Groups are at most twelve digits, so valid values are
+     * never negative.
+     */
+    private static long hex(String uuid, int from, int to) {
+        long value = 0;
+        for(int i = from; i < to; i++) {
+            char c = uuid.charAt(i);
+            int digit = c < HEX_DIGITS.length ? HEX_DIGITS[c] : -1;
+            if(digit < 0) {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    /**
+     * Index of systems by a key of two longs. Keys that only need one long use
+     * zero for the second.
+     */
+    private static class Index {
+        private volatile Table table;
+
+        Index(int expectedSize) {
+            table = new Table(expectedSize);
+        }
+
+        HydroSystem get(long high, long low) {
+            return table.get(high, low);
+        }
+
+        HydroSystem put(long high, long low, HydroSystem system) {
+            Table current = table;
+            int slot = current.find(high, low);
+            if(slot < 0) {
+                if(current.used >= current.threshold) {
+                    current = current.grow();
+                    table = current;
+                }
+                current.insert(high, low, system);
+                return null;
+            }
+
+            HydroSystem previous = current.systems.get(slot);
+            current.systems.setRelease(slot, system);
+            if(previous == Table.REMOVED) {
+                current.size++;
+                return null;
+            }
+            return previous;
+        }
+
+        /**
+         * Removes the key if it is mapped to the expected system, or to any system
+         * when the expected system is null.
+         */
+        HydroSystem remove(long high, long low, HydroSystem expected) {
+            Table current = table;
+            int slot = current.find(high, low);
+            if(slot < 0) {
+                return null;
+            }
+
+            HydroSystem previous = current.systems.get(slot);
+            if(previous == Table.REMOVED || (expected != null && previous != expected)) {
+                return null;
+            }
+            current.systems.setRelease(slot, Table.REMOVED);
+            current.size--;
+            return previous;
+        }
+
+        long getBytes() {
+            return table.getBytes();
+        }
+    }
+
+    /**
+     * Open addressing table with linear probing. The keys of a slot are written
+     * before its system is published, and are never changed after that.
+     */
+    private static class Table {
+        static final HydroSystem REMOVED = new HydroSystem();
+
+        // The hash is mixed, so linear probing stays short up to three quarters full
+        private static final int LOAD_PERCENT = 75;
+
+        private static final int ARRAY_HEADER_BYTES = 16;
+
+        // Both longs of a key are next to each other so a lookup touches one line
+        private final long[] keys;
+
+        private final AtomicReferenceArray<HydroSystem> systems;
+
+        private final int mask;
+
+        private final int threshold;
+
+        // Only changed while holding the write lock
+        private int size;
+
+        private int used;
+
+        Table(int expectedSize) {
+            long minimum = (Math.max(expectedSize, 8) * 100L + LOAD_PERCENT - 1) / LOAD_PERCENT;
+            int capacity = (int) Long.highestOneBit(minimum - 1) << 1;
+            keys = new long[capacity * 2];
+            systems = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+            threshold = (int) ((long) capacity * LOAD_PERCENT / 100);
+        }
+
+        HydroSystem get(long high, long low) {
+            for(int i = slot(high, low);; i = (i + 1) & mask) {
+                HydroSystem system = systems.getAcquire(i);
+                if(system == null) {
+                    return null;
+                }
+                if(keys[i * 2] == high && keys[i * 2 + 1] == low) {
+                    return system != REMOVED ? system : null;
+                }
+            }
+        }
+
+        int find(long high, long low) {
+            for(int i = slot(high, low);; i = (i + 1) & mask) {
+                if(systems.get(i) == null) {
+                    return -1;
+                }
+                if(keys[i * 2] == high && keys[i * 2 + 1] == low) {
+                    return i;
+                }
+            }
+        }
+
+        void insert(long high, long low, HydroSystem system) {
+            int i = slot(high, low);
+            while(systems.get(i) != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i * 2] = high;
+            keys[i * 2 + 1] = low;
+            systems.setRelease(i, system);
+            size++;
+            used++;
+        }
+
+        /**
+         * Copies the systems into a new table, dropping removed slots. The table
+         * is only doubled when it is full of systems rather than removed slots.
+         */
+        Table grow() {
+            Table grown = new Table(Math.max(size * 2, threshold / 2));
+            for(int i = 0; i <= mask; i++) {
+                HydroSystem system = systems.get(i);
+                if(system != null && system != REMOVED) {
+                    grown.insert(keys[i * 2], keys[i * 2 + 1], system);
+                }
+            }
+            return grown;
+        }
+
+        long getBytes() {
+            int capacity = mask + 1;
+            return 2L * ARRAY_HEADER_BYTES + capacity * (Long.BYTES * 2L + Integer.BYTES);
+        }
+
+        private int slot(long high, long low) {
+            long hash = (high * 0x9E3779B97F4A7C15L) ^ low;
+            hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+            return (int) (hash ^ (hash >>> 33)) & mask;
+        }
+    }
+}
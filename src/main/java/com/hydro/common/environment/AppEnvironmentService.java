@@ -4,6 +4,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.dictionary.enums.TextEnumCodec;
+import com.hydro.common.jwt.signing.JwtAlgorithm;
 
 /**
  * Information about the application environment.
@@ -15,10 +17,34 @@ import com.hydro.common.dictionary.enums.Environment;
 public class AppEnvironmentService {
     private static final String ACTIVE_PROFILE = "APP_ENVIRONMENT";
     private static final String SIGNING_KEY = "JWT_SIGNING_KEY";
+    private static final String SIGNING_ALGORITHM = "JWT_SIGNING_ALGORITHM";
+    private static final String PUBLIC_KEY = "JWT_PUBLIC_KEY";
+    private static final String PRIVATE_KEY = "JWT_PRIVATE_KEY";
+    private static final String KEY_RING_FILE = "JWT_KEY_RING_FILE";
+    private static final String REVOCATION_FILE = "JWT_REVOCATION_FILE";
+    private static final String TOKEN_GENERATION_PARALLELISM = "JWT_GENERATION_PARALLELISM";
 
     @Value("${security.signing-key:#{null}}")
     private String LOCAL_SIGNING_KEY;
 
+    @Value("${security.signing-algorithm:#{null}}")
+    private String LOCAL_SIGNING_ALGORITHM;
+
+    @Value("${security.public-key:#{null}}")
+    private String LOCAL_PUBLIC_KEY;
+
+    @Value("${security.private-key:#{null}}")
+    private String LOCAL_PRIVATE_KEY;
+
+    @Value("${security.key-ring-file:#{null}}")
+    private String LOCAL_KEY_RING_FILE;
+
+    @Value("${security.revocation-file:#{null}}")
+    private String LOCAL_REVOCATION_FILE;
+
+    @Value("${security.token-generation-parallelism:#{null}}")
+    private String LOCAL_TOKEN_GENERATION_PARALLELISM;
+
     /**
      * Gets the current active profile environment.
      *
@@ -26,7 +52,7 @@ public class AppEnvironmentService {
      */
     public Environment getEnvironment() {
         String env = System.getenv(ACTIVE_PROFILE);
-        return env != null ? Environment.valueOf(env) : Environment.LOCAL;
+        return env != null ? TextEnumCodec.of(Environment.class).valueOf(env) : Environment.LOCAL;
     }
 
     /**
@@ -37,4 +63,70 @@ public class AppEnvironmentService {
     public String getSigningKey() {
         return LOCAL_SIGNING_KEY != null ? LOCAL_SIGNING_KEY : System.getenv(SIGNING_KEY);
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the algorithm used to sign and verify jwt tokens. Defaults to
+     * {@link JwtAlgorithm#HS512} with the shared signing key.
+     * 
+     * @return {@link JwtAlgorithm} to use.
+     */
+    public JwtAlgorithm getSigningAlgorithm() {
+        String algorithm = LOCAL_SIGNING_ALGORITHM != null ? LOCAL_SIGNING_ALGORITHM : System.getenv(SIGNING_ALGORITHM);
+        return algorithm != null ? TextEnumCodec.of(JwtAlgorithm.class).valueOf(algorithm) : JwtAlgorithm.HS512;
+    }
+
+    /**
+     * Gets the X.509 encoded public key used to verify asymmetric jwt tokens.
+     * 
+     * @return String of the public key or null if not configured.
+     */
+    public String getPublicKey() {
+        return LOCAL_PUBLIC_KEY != null ? LOCAL_PUBLIC_KEY : System.getenv(PUBLIC_KEY);
+    }
+
+    /**
+     * Gets the PKCS#8 encoded private key used to sign asymmetric jwt tokens. Only
+     * the service issuing tokens should have this configured.
+     * 
+     * @return String of the private key or null if this service is verify only.
+     */
+    public String getPrivateKey() {
+        return LOCAL_PRIVATE_KEY != null ? LOCAL_PRIVATE_KEY : System.getenv(PRIVATE_KEY);
+    }
+
+    /**
+     * Gets the path of the key ring file holding the rotating signing keys. When
+     * configured it takes precedence over the single key configuration, see
+     * {@link com.hydro.common.jwt.signing.JwtKeyRingFile} for the file
+     * layout.
+     * 
+     * @return String of the key ring file path or null if not configured.
+     */
+    public String getKeyRingFile() {
+        return LOCAL_KEY_RING_FILE != null ? LOCAL_KEY_RING_FILE : System.getenv(KEY_RING_FILE);
+    }
+
+    /**
+     * Gets the path of the file listing revoked token ids, see
+     * {@link com.hydro.common.jwt.revocation.FileRevocationSource} for the file
+     * layout.
+     * 
+     * @return String of the revocation file path or null if not configured.
+     */
+    public String getRevocationFile() {
+        return LOCAL_REVOCATION_FILE != null ? LOCAL_REVOCATION_FILE : System.getenv(REVOCATION_FILE);
+    }
+
+    /**
+     * Gets the number of threads used to sign tokens in bulk. Defaults to the
+     * number of available processors.
+     * 
+     * @return int of the token generation parallelism.
+     */
+    public int getTokenGenerationParallelism() {
+        String parallelism = LOCAL_TOKEN_GENERATION_PARALLELISM != null ? LOCAL_TOKEN_GENERATION_PARALLELISM
+                                                                        : System.getenv(TOKEN_GENERATION_PARALLELISM);
+        return parallelism != null ? Integer.parseInt(parallelism.trim())
+                                   : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -1,19 +1,95 @@
 package com.hydro.common.exception;
 
+import java.util.Arrays;
+
 /**
  * Base Exception class. Will omit stack trace and only display exception.
+ * Messages built from a format are only formatted when they are first read, so
+ * exceptions that are caught and never displayed do not pay for it. Cached
+ * error responses are looked up by {@link #getMessageKey()}, so the message
+ * is only formatted when the response is not cached yet.
  * 
  * @author Sam Butler
  * @since July 31, 2021
  */
 public class BaseException extends RuntimeException {
+    private final String format;
+
+    private final transient Object[] args;
+
+    private String message;
 
     public BaseException(String message) {
         super(message);
+        this.format = null;
+        this.args = null;
+        this.message = message;
+    }
+
+    /**
+     * Creates an exception with a message that is formatted with
+     * {@link String#format(String, Object...)} when it is first read.
+     * 
+     * @param format The format of the message.
+     * @param args   The arguments of the format.
+     */
+    protected BaseException(String format, Object... args) {
+        super((String) null);
+        this.format = format;
+        this.args = args;
+    }
+
+    @Override
+    public String getMessage() {
+        if(message == null && format != null) {
+            message = args != null ? String.format(format, args) : format;
+        }
+        return message;
+    }
+
+    /**
+     * Gets a key that is equal for exceptions with equal messages, without
+     * formatting the message.
+     * 
+     * @return The message, or a key of the format and its arguments.
+     */
+    public Object getMessageKey() {
+        if(format == null) {
+            return message;
+        }
+        return new MessageKey(format, args);
     }
 
     @Override
     public Throwable fillInStackTrace() {
         return this;
     }
-}
\ No newline at end of file
+
+    private static final class MessageKey {
+        private final String format;
+
+        private final Object[] args;
+
+        private MessageKey(String format, Object[] args) {
+            this.format = format;
+            this.args = args;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof MessageKey)) {
+                return false;
+            }
+            MessageKey other = (MessageKey) o;
+            return format.equals(other.format) && Arrays.equals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return format.hashCode() * 31 + Arrays.hashCode(args);
+        }
+    }
+}
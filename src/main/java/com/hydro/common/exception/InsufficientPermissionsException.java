@@ -1,5 +1,8 @@
 package com.hydro.common.exception;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import com.hydro.common.dictionary.enums.WebRole;
 
 /**
@@ -10,6 +13,7 @@ import com.hydro.common.dictionary.enums.WebRole;
  * @since July 31, 2021
  */
 public class InsufficientPermissionsException extends BaseException {
+    private static final Map<WebRole, String> ROLE_MESSAGES = roleMessages();
 
     /**
      * Base Constructor for adding a custom message on a
@@ -27,7 +31,7 @@ public class InsufficientPermissionsException extends BaseException {
      * @param role The role to that has insufficent permissions.
      */
     public InsufficientPermissionsException(WebRole role) {
-        super(String.format("Insufficient Permissions for role '%s'", role));
+        super(role != null ? ROLE_MESSAGES.get(role) : "Insufficient Permissions for role 'null'");
     }
 
     /**
@@ -39,7 +43,14 @@ public class InsufficientPermissionsException extends BaseException {
      * @param action             The type of action (e.g. update, delete, get, etc)
      */
     public InsufficientPermissionsException(WebRole insufficentWebRole, WebRole changingWebRole, String action) {
-        super(String.format("Your role of '%s' can not %s a user of role '%s'", insufficentWebRole, action,
-                            changingWebRole));
+        super("Your role of '%s' can not %s a user of role '%s'", insufficentWebRole, action, changingWebRole);
+    }
+
+    private static Map<WebRole, String> roleMessages() {
+        Map<WebRole, String> messages = new EnumMap<>(WebRole.class);
+        for(WebRole role : WebRole.values()) {
+            messages.put(role, String.format("Insufficient Permissions for role '%s'", role));
+        }
+        return messages;
     }
 }
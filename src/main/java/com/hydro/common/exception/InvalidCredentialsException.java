@@ -8,6 +8,6 @@ package com.hydro.common.exception;
  */
 public class InvalidCredentialsException extends BaseException {
     public InvalidCredentialsException(String email) {
-        super(String.format("Invalid Credentials for user email: '%s'", email));
+        super("Invalid Credentials for user email: '%s'", email);
     }
 }
\ No newline at end of file
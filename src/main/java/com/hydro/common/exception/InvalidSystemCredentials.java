@@ -8,6 +8,6 @@ package com.hydro.common.exception;
  */
 public class InvalidSystemCredentials extends BaseException {
     public InvalidSystemCredentials(String uuid) {
-        super(String.format("Invalid Credentials for system UUID: '%s'", uuid));
+        super("Invalid Credentials for system UUID: '%s'", uuid);
     }
 }
\ No newline at end of file
@@ -9,6 +9,6 @@ package com.hydro.common.exception;
 public class NotFoundException extends BaseException {
 
     public NotFoundException(String field, Object value) {
-        super(String.format("%s not found for id: '%s'", field, value));
+        super("%s not found for id: '%s'", field, value);
     }
 }
@@ -0,0 +1,70 @@
+package com.hydro.common.exception.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Counts expected client errors of a status and logs at most one of them per
+ * interval along with how many were not logged since the last line. Keeps a
+ * flood of bad requests from turning into a flood of log lines.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ErrorLogSampler {
+    public static final long DEFAULT_INTERVAL = 10000;
+
+    private final Logger logger;
+
+    private final HttpStatus status;
+
+    private final long interval;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder suppressed = new LongAdder();
+
+    private final AtomicLong nextLog = new AtomicLong();
+
+    public ErrorLogSampler(Logger logger, HttpStatus status, long interval) {
+        this.logger = logger;
+        this.status = status;
+        this.interval = interval;
+    }
+
+    /**
+     * Counts the error and logs it if nothing has been logged this interval.
+     * 
+     * @param ex  The error that was handled.
+     * @param now The current time in epoch millis.
+     * @return {@code true} if the error was logged.
+     */
+    public boolean record(Exception ex, long now) {
+        count.increment();
+        long next = nextLog.get();
+        if(now < next || !nextLog.compareAndSet(next, now + interval)) {
+            suppressed.increment();
+            return false;
+        }
+
+        logger.warn("{} {}: {} ({} similar errors not logged)", status.value(), ex.getClass().getSimpleName(),
+                    ex.getMessage(), suppressed.sumThenReset());
+        return true;
+    }
+
+    /**
+     * Gets the number of errors recorded.
+     * 
+     * @return long of the error count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
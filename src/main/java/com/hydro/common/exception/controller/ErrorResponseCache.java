@@ -0,0 +1,275 @@
+package com.hydro.common.exception.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hydro.common.exception.BaseException;
+import com.hydro.common.exception.domain.ExceptionError;
+
+/**
+ * Cache of serialized {@link ExceptionError} responses by status and message.
+ * Client errors tend to repeat the same message, such as a misconfigured device
+ * retrying with a bad token, so each body is serialized once with the
+ * {@link ObjectMapper} of the application and only the timestamp and path are
+ * written in per request. The bodies are held in a bounded concurrent cache
+ * that evicts the least recently used messages once it is full, so messages
+ * holding request data, such as the id of a
+ * {@link com.hydro.common.exception.NotFoundException}, can not pin the cache.
+ * Exceptions are looked up by {@link BaseException#getMessageKey()}, so their
+ * message is only formatted when the body is not cached.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class ErrorResponseCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final HttpHeaders HEADERS = jsonHeaders();
+
+    // Placeholders serialized into the cached bodies where the request values go
+    private static final Date TIMESTAMP_PLACEHOLDER = new Date(-999999999999999L);
+    private static final String PATH_PLACEHOLDER = "\u0000path\u0000";
+
+    private static final byte[] NULL_PATH = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<ErrorKey, ErrorBody> bodies;
+
+    private final byte[] timestampPlaceholder;
+
+    private final byte[] pathPlaceholder;
+
+    // False if the mapper does not write the placeholders as is
+    private final boolean cacheable;
+
+    public ErrorResponseCache() {
+        this(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    @Autowired
+    public ErrorResponseCache(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public ErrorResponseCache(ObjectMapper objectMapper, int maximumSize) {
+        this.objectMapper = objectMapper;
+        this.bodies = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.timestampPlaceholder = serialize(TIMESTAMP_PLACEHOLDER);
+        this.pathPlaceholder = serialize(PATH_PLACEHOLDER);
+        this.cacheable = createBody(HttpStatus.INTERNAL_SERVER_ERROR, "") != null;
+    }
+
+    /**
+     * Gets the response for the given status and message without a path.
+     * 
+     * @param status  The status of the response.
+     * @param message The message of the error.
+     * @return {@link ResponseEntity} of the serialized error.
+     */
+    public ResponseEntity<byte[]> get(HttpStatus status, String message) {
+        return get(status, message, null);
+    }
+
+    /**
+     * Gets the response for the given status and message with the current time
+     * and the path of the request filled in. The cached body is reused and only
+     * the timestamp and path are written per request.
+     * 
+     * @param status  The status of the response.
+     * @param message The message of the error.
+     * @param path    The path of the request, may be null.
+     * @return {@link ResponseEntity} of the serialized error.
+     */
+    public ResponseEntity<byte[]> get(HttpStatus status, String message, String path) {
+        String key = message != null ? message : "";
+        return get(status, key, () -> message, path);
+    }
+
+    /**
+     * Gets the response for the given status and exception with the current time
+     * and the path of the request filled in. The message of a
+     * {@link BaseException} is only formatted if its body is not cached yet.
+     * 
+     * @param status The status of the response.
+     * @param ex     The exception with the message of the error.
+     * @param path   The path of the request, may be null.
+     * @return {@link ResponseEntity} of the serialized error.
+     */
+    public ResponseEntity<byte[]> get(HttpStatus status, Exception ex, String path) {
+        Object key = ex instanceof BaseException ? ((BaseException) ex).getMessageKey() : ex.getMessage();
+        return get(status, key != null ? key : "", ex::getMessage, path);
+    }
+
+    private ResponseEntity<byte[]> get(HttpStatus status, Object messageKey, Supplier<String> message, String path) {
+        Date timestamp = new Date();
+        ErrorBody body = cacheable ? getBody(status, messageKey, message) : null;
+        if(body == null) {
+            ExceptionError error = new ExceptionError(message.get(), status);
+            error.setTimestamp(timestamp);
+            error.setPath(path);
+            return new ResponseEntity<>(serialize(error), HEADERS, status);
+        }
+        return new ResponseEntity<>(body.write(serialize(timestamp), quote(path)), HEADERS, status);
+    }
+
+    /**
+     * Gets the number of cached responses.
+     * 
+     * @return int of the cache size.
+     */
+    public int size() {
+        return (int) bodies.size();
+    }
+
+    private ErrorBody getBody(HttpStatus status, Object messageKey, Supplier<String> message) {
+        ErrorKey key = new ErrorKey(status, messageKey);
+        ErrorBody body = bodies.getIfPresent(key);
+        if(body != null) {
+            return body;
+        }
+
+        body = createBody(status, message.get());
+        if(body != null) {
+            bodies.put(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Serializes the error with placeholders for the timestamp and path, and
+     * splits the body around them.
+     * 
+     * @param status  The status of the error.
+     * @param message The message of the error.
+     * @return {@link ErrorBody} of the error, or null if the placeholders could not
+     *         be found in order.
+     */
+    private ErrorBody createBody(HttpStatus status, String message) {
+        ExceptionError error = new ExceptionError(message, status);
+        error.setTimestamp(TIMESTAMP_PLACEHOLDER);
+        error.setPath(PATH_PLACEHOLDER);
+        byte[] body = serialize(error);
+
+        int timestampIndex = indexOf(body, timestampPlaceholder, 0);
+        int pathIndex = timestampIndex < 0 ? -1
+                : indexOf(body, pathPlaceholder, timestampIndex + timestampPlaceholder.length);
+        if(pathIndex < 0) {
+            return null;
+        }
+        return new ErrorBody(body, timestampIndex, timestampIndex + timestampPlaceholder.length, pathIndex,
+                             pathIndex + pathPlaceholder.length);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        }
+        catch(JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize error body: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] quote(String path) {
+        if(path == null) {
+            return NULL_PATH;
+        }
+
+        byte[] quotedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        byte[] value = new byte[quotedPath.length + 2];
+        value[0] = '"';
+        System.arraycopy(quotedPath, 0, value, 1, quotedPath.length);
+        value[value.length - 1] = '"';
+        return value;
+    }
+
+    private static int indexOf(byte[] body, byte[] value, int from) {
+        for(int i = from; i <= body.length - value.length; i++) {
+            int j = 0;
+            while(j < value.length && body[i + j] == value[j]) {
+                j++;
+            }
+            if(j == value.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    /**
+     * Serialized error split around the timestamp and path.
+     */
+    private static final class ErrorBody {
+        private final byte[] prefix;
+
+        private final byte[] middle;
+
+        private final byte[] suffix;
+
+        private ErrorBody(byte[] body, int timestampStart, int timestampEnd, int pathStart, int pathEnd) {
+            this.prefix = Arrays.copyOfRange(body, 0, timestampStart);
+            this.middle = Arrays.copyOfRange(body, timestampEnd, pathStart);
+            this.suffix = Arrays.copyOfRange(body, pathEnd, body.length);
+        }
+
+        private byte[] write(byte[] timestamp, byte[] path) {
+            byte[] body = new byte[prefix.length + timestamp.length + middle.length + path.length + suffix.length];
+            int offset = 0;
+            for(byte[] part : new byte[][] {prefix, timestamp, middle, path, suffix}) {
+                System.arraycopy(part, 0, body, offset, part.length);
+                offset += part.length;
+            }
+            return body;
+        }
+    }
+
+    private static final class ErrorKey {
+        private final HttpStatus status;
+
+        private final Object message;
+
+        private ErrorKey(HttpStatus status, Object message) {
+            this.status = status;
+            this.message = message;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof ErrorKey)) {
+                return false;
+            }
+            ErrorKey other = (ErrorKey) o;
+            return status == other.status && message.equals(other.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return status.hashCode() * 31 + message.hashCode();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.hydro.common.exception.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.annotations.interfaces.RestApiController;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.exception.telemetry.ErrorEvent;
+import com.hydro.common.exception.telemetry.ErrorMetric;
+import com.hydro.common.exception.telemetry.ErrorTelemetry;
+
+/**
+ * Exposes the {@link ErrorTelemetry} of the service to admins. Registered when
+ * {@code errors.telemetry.endpoint-enabled} is set to true.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@RequestMapping("/errors")
+@RestApiController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@ConditionalOnProperty(name = "errors.telemetry.endpoint-enabled", havingValue = "true")
+public class ErrorTelemetryController {
+
+    @Autowired
+    private ErrorTelemetry errorTelemetry;
+
+    /**
+     * Gets the error counts and timings by exception, status and path template.
+     * 
+     * @return List of the {@link ErrorMetric} objects.
+     */
+    @GetMapping("/metrics")
+    @HasAccess(WebRole.ADMIN)
+    public List<ErrorMetric> getMetrics() {
+        return errorTelemetry.getMetrics();
+    }
+
+    /**
+     * Gets the last errors handled, newest first.
+     * 
+     * @return List of the recent {@link ErrorEvent} objects.
+     */
+    @GetMapping("/recent")
+    @HasAccess(WebRole.ADMIN)
+    public List<ErrorEvent> getRecent() {
+        return errorTelemetry.getRecent();
+    }
+}
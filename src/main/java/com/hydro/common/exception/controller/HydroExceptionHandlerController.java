@@ -1,11 +1,16 @@
 package com.hydro.common.exception.controller;
 
+import javax.servlet.http.HttpServletRequest;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import com.hydro.common.exception.BaseException;
@@ -15,9 +20,14 @@ import com.hydro.common.exception.InvalidSystemCredentials;
 import com.hydro.common.exception.JwtTokenException;
 import com.hydro.common.exception.NotFoundException;
 import com.hydro.common.exception.domain.ExceptionError;
+import com.hydro.common.exception.telemetry.ErrorTelemetry;
 
 /**
  * Exception Helper class for returning response entitys of the errored objects.
+ * Expected client errors (401, 403 and not found) are counted and sampled in
+ * the logs instead of logging each one, and answered with cached bodies from
+ * the {@link ErrorResponseCache}. Every error is recorded in the
+ * {@link ErrorTelemetry} and answered with the path of the request.
  * 
  * @author Sam Butler
  * @since August 24, 2021
@@ -26,52 +36,120 @@ import com.hydro.common.exception.domain.ExceptionError;
 public class HydroExceptionHandlerController extends ResponseEntityExceptionHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(HydroExceptionHandlerController.class);
 
+    private final ErrorLogSampler unauthorized = new ErrorLogSampler(LOGGER, HttpStatus.UNAUTHORIZED,
+                                                                     ErrorLogSampler.DEFAULT_INTERVAL);
+
+    private final ErrorLogSampler forbidden = new ErrorLogSampler(LOGGER, HttpStatus.FORBIDDEN,
+                                                                  ErrorLogSampler.DEFAULT_INTERVAL);
+
+    private final ErrorLogSampler notFound = new ErrorLogSampler(LOGGER, HttpStatus.BAD_REQUEST,
+                                                                 ErrorLogSampler.DEFAULT_INTERVAL);
+
+    @Autowired(required = false)
+    private ErrorTelemetry errorTelemetry = new ErrorTelemetry();
+
+    @Autowired(required = false)
+    private ErrorResponseCache errorResponseCache = new ErrorResponseCache();
+
     @ExceptionHandler(InvalidCredentialsException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
-    public ExceptionError handleInvalidCredentialsException(Exception ex) {
-        LOGGER.error(ex.getMessage());
-        return new ExceptionError(ex.getMessage(), HttpStatus.UNAUTHORIZED);
+    public ResponseEntity<byte[]> handleInvalidCredentialsException(Exception ex, HttpServletRequest request) {
+        return clientError(unauthorized, ex, request);
     }
 
     @ExceptionHandler(InvalidSystemCredentials.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
-    public ExceptionError handleInvalidSystemCredentials(Exception ex) {
-        LOGGER.error(ex.getMessage());
-        return new ExceptionError(ex.getMessage(), HttpStatus.UNAUTHORIZED);
+    public ResponseEntity<byte[]> handleInvalidSystemCredentials(Exception ex, HttpServletRequest request) {
+        return clientError(unauthorized, ex, request);
     }
 
     @ExceptionHandler(NotFoundException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ExceptionError handleNotFoundException(Exception ex) {
-        LOGGER.error(ex.getMessage());
-        return new ExceptionError(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<byte[]> handleNotFoundException(Exception ex, HttpServletRequest request) {
+        return clientError(notFound, ex, request);
     }
 
     @ExceptionHandler(JwtTokenException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
-    public Object handleJwtTokenException(Exception ex) {
-        LOGGER.error(ex.getMessage());
-        return new ExceptionError(ex.getMessage(), HttpStatus.UNAUTHORIZED);
+    public Object handleJwtTokenException(Exception ex, HttpServletRequest request) {
+        return clientError(unauthorized, ex, request);
     }
 
     @ExceptionHandler(InsufficientPermissionsException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
-    public ExceptionError handleInsufficientPermissionsException(Exception ex) {
-        LOGGER.error(ex.getMessage());
-        return new ExceptionError(ex.getMessage(), HttpStatus.FORBIDDEN);
+    public ResponseEntity<byte[]> handleInsufficientPermissionsException(Exception ex, HttpServletRequest request) {
+        return clientError(forbidden, ex, request);
     }
 
     @ExceptionHandler(BaseException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ExceptionError handleBaseException(Exception ex) {
-        LOGGER.error(ex.getMessage());
-        return new ExceptionError(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    public ExceptionError handleBaseException(Exception ex, HttpServletRequest request) {
+        return serverError(ex, request);
     }
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ExceptionError handleException(Exception ex) {
+    public ExceptionError handleException(Exception ex, HttpServletRequest request) {
+        return serverError(ex, request);
+    }
+
+    /**
+     * Gets the number of unauthorized errors handled.
+     * 
+     * @return long of the error count.
+     */
+    public long getUnauthorizedCount() {
+        return unauthorized.getCount();
+    }
+
+    /**
+     * Gets the number of forbidden errors handled.
+     * 
+     * @return long of the error count.
+     */
+    public long getForbiddenCount() {
+        return forbidden.getCount();
+    }
+
+    /**
+     * Gets the number of not found errors handled.
+     * 
+     * @return long of the error count.
+     */
+    public long getNotFoundCount() {
+        return notFound.getCount();
+    }
+
+    /**
+     * Expected client errors are counted, logged at most once per interval and
+     * answered with a cached body instead of a new {@link ExceptionError}.
+     * 
+     * @param sampler The sampler for the status of the error.
+     * @param ex      The error that was handled.
+     * @param request The request that failed.
+     * @return {@link ResponseEntity} of the serialized error.
+     */
+    private ResponseEntity<byte[]> clientError(ErrorLogSampler sampler, Exception ex, HttpServletRequest request) {
+        long start = System.nanoTime();
+        sampler.record(ex, System.currentTimeMillis());
+        ResponseEntity<byte[]> response = errorResponseCache.get(sampler.getStatus(), ex, request.getRequestURI());
+        errorTelemetry.record(ex, sampler.getStatus(), pathTemplate(request), request.getRequestURI(),
+                              System.nanoTime() - start);
+        return response;
+    }
+
+    private ExceptionError serverError(Exception ex, HttpServletRequest request) {
+        long start = System.nanoTime();
         LOGGER.error(ex.getMessage());
-        return new ExceptionError(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        ExceptionError error = new ExceptionError(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        error.setPath(request.getRequestURI());
+        errorTelemetry.record(ex, HttpStatus.INTERNAL_SERVER_ERROR, pathTemplate(request), request.getRequestURI(),
+                              System.nanoTime() - start);
+        return error;
+    }
+
+    private String pathTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : null;
     }
 }
@@ -0,0 +1,50 @@
+package com.hydro.common.exception.telemetry;
+
+import java.util.Date;
+
+/**
+ * A single handled error kept in the recent errors of the
+ * {@link ErrorTelemetry}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ErrorEvent {
+    private final Date timestamp;
+
+    private final int status;
+
+    private final String exception;
+
+    private final String message;
+
+    private final String path;
+
+    public ErrorEvent(Date timestamp, int status, String exception, String message, String path) {
+        this.timestamp = timestamp;
+        this.status = status;
+        this.exception = exception;
+        this.message = message;
+        this.path = path;
+    }
+
+    public Date getTimestamp() {
+        return timestamp;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getException() {
+        return exception;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,66 @@
+package com.hydro.common.exception.telemetry;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter and timer of the errors handled for one exception, status and
+ * request path template.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ErrorMetric {
+    private final String exception;
+
+    private final int status;
+
+    private final String path;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public ErrorMetric(String exception, int status, String path) {
+        this.exception = exception;
+        this.status = status;
+        this.path = path;
+    }
+
+    /**
+     * Records an error that took the given time to handle.
+     * 
+     * @param nanos The time spent handling the error in nanoseconds.
+     */
+    public void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public String getException() {
+        return exception;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+}
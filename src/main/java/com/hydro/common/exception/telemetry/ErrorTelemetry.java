@@ -0,0 +1,132 @@
+package com.hydro.common.exception.telemetry;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts and times the errors handled by the exception handler by exception,
+ * status and request path template, so auth failure spikes can be alerted on
+ * without reading the logs. The last errors can also be kept in a bounded ring
+ * buffer by setting {@code errors.telemetry.recent-size}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class ErrorTelemetry {
+    public static final String UNKNOWN_PATH = "UNKNOWN";
+
+    private final Map<MetricKey, ErrorMetric> metrics = new ConcurrentHashMap<>();
+
+    private final AtomicReferenceArray<ErrorEvent> recent;
+
+    private final AtomicLong recentIndex = new AtomicLong();
+
+    public ErrorTelemetry() {
+        this(0);
+    }
+
+    @Autowired
+    public ErrorTelemetry(@Value("${errors.telemetry.recent-size:0}") int recentSize) {
+        this.recent = recentSize > 0 ? new AtomicReferenceArray<>(recentSize) : null;
+    }
+
+    /**
+     * Records a handled error.
+     * 
+     * @param ex           The error that was handled.
+     * @param status       The status the error was answered with.
+     * @param pathTemplate The path template of the request handler, or null if
+     *                     the request was not matched to one.
+     * @param path         The path of the request.
+     * @param nanos        The time spent handling the error in nanoseconds.
+     */
+    public void record(Exception ex, HttpStatus status, String pathTemplate, String path, long nanos) {
+        String template = pathTemplate != null ? pathTemplate : UNKNOWN_PATH;
+        MetricKey key = new MetricKey(ex.getClass(), status.value(), template);
+        ErrorMetric metric = metrics.get(key);
+        if(metric == null) {
+            metric = metrics.computeIfAbsent(key, k -> new ErrorMetric(ex.getClass().getSimpleName(), k.status,
+                                                                       k.path));
+        }
+        metric.record(nanos);
+
+        if(recent != null) {
+            int index = (int) (recentIndex.getAndIncrement() % recent.length());
+            recent.set(index, new ErrorEvent(new Date(), status.value(), ex.getClass().getSimpleName(),
+                                             ex.getMessage(), path));
+        }
+    }
+
+    /**
+     * Gets the metrics of every exception, status and path template seen so far.
+     * 
+     * @return List of the {@link ErrorMetric} objects.
+     */
+    public List<ErrorMetric> getMetrics() {
+        return new ArrayList<>(metrics.values());
+    }
+
+    /**
+     * Gets the last errors recorded, newest first. Empty if the recent errors are
+     * not kept.
+     * 
+     * @return List of the recent {@link ErrorEvent} objects.
+     */
+    public List<ErrorEvent> getRecent() {
+        List<ErrorEvent> events = new ArrayList<>();
+        if(recent == null) {
+            return events;
+        }
+
+        long end = recentIndex.get();
+        for(long i = end - 1; i >= Math.max(0, end - recent.length()); i--) {
+            ErrorEvent event = recent.get((int) (i % recent.length()));
+            if(event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static final class MetricKey {
+        private final Class<?> exception;
+
+        private final int status;
+
+        private final String path;
+
+        private MetricKey(Class<?> exception, int status, String path) {
+            this.exception = exception;
+            this.status = status;
+            this.path = path;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof MetricKey)) {
+                return false;
+            }
+            MetricKey other = (MetricKey) o;
+            return exception == other.exception && status == other.status && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return (exception.hashCode() * 31 + status) * 31 + path.hashCode();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.hydro.common.jwt.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.hydro.common.jwt.domain.JwtClaimSnapshot;
+import com.hydro.common.jwt.signing.JwtCodec;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+
+/**
+ * Bounded, concurrent cache of verified jwt claims. Tokens are keyed by their
+ * SHA-256 digest so the raw bearer token is never held as a key. Entries are
+ * only served while the token has not passed its expiration and while it was
+ * verified with a signing key that is still in use. The signing key can be any
+ * object with value based equality, such as the raw key string or the signing
+ * strategy that verified the token, so rebuilding the codec with the same keys
+ * does not discard cached verifications.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtClaimsCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+    private static final long MAXIMUM_ENTRY_LIFETIME = 86400000; // 24 hours
+
+    private static final JwtClaimsCache INSTANCE = new JwtClaimsCache(DEFAULT_MAXIMUM_SIZE);
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(JwtClaimsCache::newDigest);
+
+    private final Cache<TokenDigest, CachedClaims> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache that will hold at most the given number of verified
+     * tokens.
+     * 
+     * @param maximumSize The maximum number of tokens to hold.
+     */
+    public JwtClaimsCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize)
+                .expireAfterWrite(MAXIMUM_ENTRY_LIFETIME, TimeUnit.MILLISECONDS)
+                .removalListener(this::onRemoval).build();
+    }
+
+    /**
+     * Gets the shared cache instance used by the jwt utilities.
+     * 
+     * @return {@link JwtClaimsCache} shared instance.
+     */
+    public static JwtClaimsCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the verified claims for the given token. If the token is not cached,
+     * has expired or was verified with a different signing key, then the
+     * verifier will be called and the result will be cached until the token
+     * expires. Tokens that fail verification are never cached.
+     * 
+     * @param token      The token to get the claims for.
+     * @param signingKey The signing key currently in use.
+     * @param verifier   Function that will verify and parse the token.
+     * @return {@link Claims} read only claims of the token.
+     */
+    public Claims get(String token, Object signingKey, Function<String, Claims> verifier) {
+        return getSnapshot(token, signingKey, verifier).getClaims();
+    }
+
+    /**
+     * Gets the verified claims for the given token, verifying it with the codec
+     * if it is not cached. Cached tokens are served as long as the key that
+     * verified them is still in the key ring of the codec.
+     * 
+     * @param token The token to get the claims for.
+     * @param codec The codec currently in use.
+     * @return {@link Claims} read only claims of the token.
+     */
+    public Claims get(String token, JwtCodec codec) {
+        return getSnapshot(token, codec).getClaims();
+    }
+
+    /**
+     * Gets the decoded claim snapshot for the given token, verifying it with the
+     * codec if it is not cached, see {@link #get(String, JwtCodec)}.
+     * 
+     * @param token The token to get the snapshot for.
+     * @param codec The codec currently in use.
+     * @return {@link JwtClaimSnapshot} of the read only claims.
+     */
+    public JwtClaimSnapshot getSnapshot(String token, JwtCodec codec) {
+        return getSnapshot(token, codec.getVerifier(token), codec::decode);
+    }
+
+    /**
+     * Gets the decoded claim snapshot for the given token. The snapshot is cached
+     * along with the claims so a cache hit does not need to decode the claims
+     * again.
+     * 
+     * @param token      The token to get the snapshot for.
+     * @param signingKey The signing key currently in use.
+     * @param verifier   Function that will verify and parse the token.
+     * @return {@link JwtClaimSnapshot} of the read only claims.
+     */
+    public JwtClaimSnapshot getSnapshot(String token, Object signingKey, Function<String, Claims> verifier) {
+        if(token == null) {
+            return JwtClaimSnapshot.of(verifier.apply(token));
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        long now = System.currentTimeMillis();
+
+        CachedClaims cached = cache.getIfPresent(digest);
+        if(cached != null) {
+            if(cached.isValid(signingKey, now)) {
+                hits.increment();
+                return cached.snapshot;
+            }
+            cache.invalidate(digest);
+            evictions.increment();
+        }
+
+        misses.increment();
+        JwtClaimSnapshot snapshot = JwtClaimSnapshot.of(readOnly(verifier.apply(token)));
+        if(snapshot.getExpiration() > now) {
+            cache.put(digest, new CachedClaims(snapshot, signingKey));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Removes all verified tokens from the cache. This should be called anytime
+     * the signing key is rotated.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * The number of lookups that were served from the cache.
+     * 
+     * @return long of the hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups that required the token to be verified.
+     * 
+     * @return long of the miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of tokens removed because they expired, were verified with an
+     * old signing key or the cache was full.
+     * 
+     * @return long of the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * The approximate number of tokens currently cached.
+     * 
+     * @return long of the cache size.
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    private void onRemoval(RemovalNotification<TokenDigest, CachedClaims> notification) {
+        if(notification.wasEvicted()) {
+            evictions.increment();
+        }
+    }
+
+    private static Claims readOnly(Claims claims) {
+        return new DefaultClaims(Collections.unmodifiableMap(new LinkedHashMap<>(claims)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Cached claim snapshot and the key it was verified with.
+     */
+    private static final class CachedClaims {
+        private final JwtClaimSnapshot snapshot;
+
+        private final Object signingKey;
+
+        private CachedClaims(JwtClaimSnapshot snapshot, Object signingKey) {
+            this.snapshot = snapshot;
+            this.signingKey = signingKey;
+        }
+
+        private boolean isValid(Object currentSigningKey, long now) {
+            return snapshot.getExpiration() > now && Objects.equals(signingKey, currentSigningKey);
+        }
+    }
+
+    /**
+     * SHA-256 digest of a token stored as four longs.
+     */
+    private static final class TokenDigest {
+        private final long d0;
+
+        private final long d1;
+
+        private final long d2;
+
+        private final long d3;
+
+        private TokenDigest(ByteBuffer digest) {
+            this.d0 = digest.getLong();
+            this.d1 = digest.getLong();
+            this.d2 = digest.getLong();
+            this.d3 = digest.getLong();
+        }
+
+        private static TokenDigest of(String token) {
+            MessageDigest md = DIGEST.get();
+            return new TokenDigest(ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII))));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(!(other instanceof TokenDigest)) {
+                return false;
+            }
+            TokenDigest o = (TokenDigest) other;
+            return d0 == o.d0 && d1 == o.d1 && d2 == o.d2 && d3 == o.d3;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (d0 ^ (d0 >>> 32));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.hydro.common.jwt.context;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+import com.hydro.common.jwt.domain.JwtPair;
+
+/**
+ * Holds the {@link JwtPair} of the work currently running and carries it across
+ * thread boundaries. Work handed to another thread does not see the pair unless
+ * it is wrapped with one of the {@code wrap} methods, which capture the pair
+ * when the work is created and bind it while the work runs. For example:
+ * 
+ * <pre>
+ * CompletableFuture.supplyAsync(JwtContextHolder.wrapSupplier(() -&gt; jwtHolder.getUserId()), executor);
+ * </pre>
+ * 
+ * The scoped {@code runWith} and {@code callWith} methods bind a pair only for
+ * the duration of the call and restore the previous binding afterwards, so the
+ * binding can never leak onto a pooled thread.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class JwtContextHolder {
+    private static volatile JwtContextStrategy strategy = new ThreadLocalJwtContextStrategy();
+
+    private JwtContextHolder() {}
+
+    /**
+     * Replaces the strategy the pair is stored with. Should be called once on
+     * startup before any pair is bound.
+     * 
+     * @param contextStrategy The strategy to use.
+     */
+    public static void setStrategy(JwtContextStrategy contextStrategy) {
+        Assert.notNull(contextStrategy, "Jwt context strategy can not be null");
+        strategy = contextStrategy;
+    }
+
+    public static JwtContextStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the pair bound to the current context.
+     * 
+     * @return {@link JwtPair} of the context or null if none is bound.
+     */
+    public static JwtPair get() {
+        return strategy.get();
+    }
+
+    /**
+     * Binds the pair to the current context until {@link #clear()} is called.
+     * 
+     * @param pair The pair to bind.
+     */
+    public static void set(JwtPair pair) {
+        strategy.set(pair);
+    }
+
+    /**
+     * Removes the pair from the current context.
+     */
+    public static void clear() {
+        strategy.clear();
+    }
+
+    /**
+     * Runs the task with the pair bound and restores the previous binding when it
+     * completes.
+     * 
+     * @param pair The pair to bind.
+     * @param task The task to run.
+     */
+    public static void runWith(JwtPair pair, Runnable task) {
+        JwtPair previous = bind(pair);
+        try {
+            task.run();
+        }
+        finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Calls the supplier with the pair bound and restores the previous binding
+     * when it completes.
+     * 
+     * @param <T>      The result type.
+     * @param pair     The pair to bind.
+     * @param supplier The supplier to call.
+     * @return The result of the supplier.
+     */
+    public static <T> T callWith(JwtPair pair, Supplier<T> supplier) {
+        JwtPair previous = bind(pair);
+        try {
+            return supplier.get();
+        }
+        finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Wraps the task so it runs with the pair that is bound now.
+     * 
+     * @param task The task to wrap.
+     * @return {@link Runnable} bound to the current pair.
+     */
+    public static Runnable wrap(Runnable task) {
+        JwtPair pair = get();
+        return () -> runWith(pair, task);
+    }
+
+    /**
+     * Wraps the supplier so it is called with the pair that is bound now.
+     * 
+     * @param <T>      The result type.
+     * @param supplier The supplier to wrap.
+     * @return {@link Supplier} bound to the current pair.
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        JwtPair pair = get();
+        return () -> callWith(pair, supplier);
+    }
+
+    /**
+     * Wraps the callable so it is called with the pair that is bound now.
+     * 
+     * @param <T>      The result type.
+     * @param callable The callable to wrap.
+     * @return {@link Callable} bound to the current pair.
+     */
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        return wrap(get(), callable);
+    }
+
+    /**
+     * Wraps the callable so it is called with the given pair.
+     * 
+     * @param <T>      The result type.
+     * @param pair     The pair to bind.
+     * @param callable The callable to wrap.
+     * @return {@link Callable} bound to the pair.
+     */
+    public static <T> Callable<T> wrap(JwtPair pair, Callable<T> callable) {
+        return () -> {
+            JwtPair previous = bind(pair);
+            try {
+                return callable.call();
+            }
+            finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps the executor so every task submitted to it runs with the pair that was
+     * bound by the submitting thread.
+     * 
+     * @param executor The executor to wrap.
+     * @return {@link Executor} that propagates the pair.
+     */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    private static JwtPair bind(JwtPair pair) {
+        JwtContextStrategy current = strategy;
+        JwtPair previous = current.get();
+        if(pair != null) {
+            current.set(pair);
+        }
+        else {
+            current.clear();
+        }
+        return previous;
+    }
+
+    private static void restore(JwtPair previous) {
+        if(previous != null) {
+            strategy.set(previous);
+        }
+        else {
+            strategy.clear();
+        }
+    }
+}
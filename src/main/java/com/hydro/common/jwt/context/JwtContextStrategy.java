@@ -0,0 +1,34 @@
+package com.hydro.common.jwt.context;
+
+import com.hydro.common.jwt.domain.JwtPair;
+
+/**
+ * Strategy for storing the {@link JwtPair} of the work currently running. The
+ * default strategy is {@link ThreadLocalJwtContextStrategy}, it can be replaced
+ * with {@link JwtContextHolder#setStrategy(JwtContextStrategy)} for runtimes
+ * that have a better carrier, such as a {@code ScopedValue} on virtual threads.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public interface JwtContextStrategy {
+
+    /**
+     * Gets the pair bound to the current context.
+     * 
+     * @return {@link JwtPair} of the context or null if none is bound.
+     */
+    JwtPair get();
+
+    /**
+     * Binds the pair to the current context.
+     * 
+     * @param pair The pair to bind.
+     */
+    void set(JwtPair pair);
+
+    /**
+     * Removes the pair from the current context.
+     */
+    void clear();
+}
@@ -0,0 +1,65 @@
+package com.hydro.common.jwt.context;
+
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import com.hydro.common.jwt.domain.JwtPair;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Carries the {@link JwtPair} in the Reactor {@link Context} of a reactive
+ * pipeline, where a thread local does not follow the work between threads. The
+ * pair is written into the context once, usually by a web filter:
+ * 
+ * <pre>
+ * chain.filter(exchange).contextWrite(ReactorJwtContext.withPair(pair));
+ * </pre>
+ * 
+ * Code further down the pipeline can read it with {@link #getPair()}, or run
+ * blocking code that uses the {@link com.hydro.common.jwt.utility.JwtHolder}
+ * with {@link #fromCallable(Callable)}. Reactor is an optional dependency, this
+ * class can only be used when it is on the classpath.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class ReactorJwtContext {
+    public static final Class<JwtPair> CONTEXT_KEY = JwtPair.class;
+
+    private ReactorJwtContext() {}
+
+    /**
+     * Creates a context modifier that stores the pair.
+     * 
+     * @param pair The pair to store.
+     * @return {@link Function} for {@code contextWrite}.
+     */
+    public static Function<Context, Context> withPair(JwtPair pair) {
+        return context -> context.put(CONTEXT_KEY, pair);
+    }
+
+    /**
+     * Gets the pair stored in the subscriber context.
+     * 
+     * @return {@link Mono} of the pair, empty if none is stored.
+     */
+    public static Mono<JwtPair> getPair() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(CONTEXT_KEY)));
+    }
+
+    /**
+     * Creates a mono that calls the callable with the pair from the subscriber
+     * context bound to the {@link JwtContextHolder}, so code using the
+     * {@link com.hydro.common.jwt.utility.JwtHolder} works inside the pipeline.
+     * 
+     * @param <T>      The result type.
+     * @param callable The callable to call.
+     * @return {@link Mono} of the result.
+     */
+    public static <T> Mono<T> fromCallable(Callable<T> callable) {
+        return Mono.deferContextual(context -> Mono
+                .fromCallable(JwtContextHolder.wrap(context.getOrDefault(CONTEXT_KEY, null), callable)));
+    }
+}
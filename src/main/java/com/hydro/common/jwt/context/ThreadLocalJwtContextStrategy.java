@@ -0,0 +1,28 @@
+package com.hydro.common.jwt.context;
+
+import com.hydro.common.jwt.domain.JwtPair;
+
+/**
+ * {@link JwtContextStrategy} that stores the pair in a thread local.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ThreadLocalJwtContextStrategy implements JwtContextStrategy {
+    private final ThreadLocal<JwtPair> pair = new ThreadLocal<>();
+
+    @Override
+    public JwtPair get() {
+        return pair.get();
+    }
+
+    @Override
+    public void set(JwtPair value) {
+        pair.set(value);
+    }
+
+    @Override
+    public void clear() {
+        pair.remove();
+    }
+}
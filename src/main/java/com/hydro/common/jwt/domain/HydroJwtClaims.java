@@ -23,6 +23,10 @@ public abstract class HydroJwtClaims {
     public static final String NAME = "name";
     public static final String OWNER_USER_ID = "ownerUserId";
 
+    // Refresh JWT Claims
+    public static final String REFRESH_TYPE = "refreshType";
+    public static final String SESSION_EXPIRATION = "sessionExp";
+
     // All Claims
     public static final String JWT_TYPE = "jwtType";
 }
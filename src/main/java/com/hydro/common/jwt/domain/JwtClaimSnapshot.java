@@ -0,0 +1,185 @@
+package com.hydro.common.jwt.domain;
+
+import java.util.Date;
+
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.utility.JwtClaimConverter;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Immutable, typed view of a verified claim set. The claims are decoded once
+ * when the token is verified so the getters never need to go back into the
+ * claims map or re-parse any values.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class JwtClaimSnapshot {
+    private final Claims claims;
+
+    private final JwtType jwtType;
+
+    private final Environment environment;
+
+    private final WebRole webRole;
+
+    private final long issuedAt;
+
+    private final long expiration;
+
+    private final String tokenId;
+
+    // User Claims
+    private final int userId;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    private final String email;
+
+    private final boolean passwordReset;
+
+    // System Claims
+    private final int id;
+
+    private final String uuid;
+
+    private final PartNumber partNumber;
+
+    private final String name;
+
+    private final int ownerUserId;
+
+    private JwtClaimSnapshot(Claims claims) {
+        this.claims = claims;
+        this.jwtType = JwtClaimConverter.convert(claims.get(HydroJwtClaims.JWT_TYPE), JwtType.class);
+        this.environment = JwtClaimConverter.convert(claims.get(HydroJwtClaims.ENVIRONMENT), Environment.class);
+        this.webRole = JwtClaimConverter.convert(claims.get(HydroJwtClaims.WEB_ROLE), WebRole.class);
+        this.issuedAt = issuedAtOf(claims);
+        this.expiration = expirationOf(claims);
+        this.tokenId = claims.getId();
+
+        this.userId = intValue(claims.get(HydroJwtClaims.USER_ID));
+        this.firstName = stringValue(claims.get(HydroJwtClaims.FIRST_NAME));
+        this.lastName = stringValue(claims.get(HydroJwtClaims.LAST_NAME));
+        this.email = stringValue(claims.get(HydroJwtClaims.EMAIL));
+        this.passwordReset = booleanValue(claims.get(HydroJwtClaims.PASSWORD_RESET));
+
+        this.id = intValue(claims.get(HydroJwtClaims.ID));
+        this.uuid = stringValue(claims.get(HydroJwtClaims.UUID));
+        this.partNumber = JwtClaimConverter.convert(claims.get(HydroJwtClaims.PART_NUMBER), PartNumber.class);
+        this.name = stringValue(claims.get(HydroJwtClaims.NAME));
+        this.ownerUserId = intValue(claims.get(HydroJwtClaims.OWNER_USER_ID));
+    }
+
+    /**
+     * Decodes the given claims into a typed snapshot. Claims that are not present
+     * on the token will be null or zero.
+     * 
+     * @param claims The verified claims to decode.
+     * @return {@link JwtClaimSnapshot} of the claims.
+     */
+    public static JwtClaimSnapshot of(Claims claims) {
+        return new JwtClaimSnapshot(claims);
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public JwtType getJwtType() {
+        return jwtType;
+    }
+
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    public WebRole getWebRole() {
+        return webRole;
+    }
+
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isPasswordReset() {
+        return passwordReset;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public PartNumber getPartNumber() {
+        return partNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getOwnerUserId() {
+        return ownerUserId;
+    }
+
+    private static long issuedAtOf(Claims claims) {
+        Date iat = claims.getIssuedAt();
+        return iat != null ? iat.getTime() : 0;
+    }
+
+    private static long expirationOf(Claims claims) {
+        Date exp = claims.getExpiration();
+        return exp != null ? exp.getTime() : Long.MAX_VALUE;
+    }
+
+    private static int intValue(Object value) {
+        if(value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+
+    private static boolean booleanValue(Object value) {
+        if(value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    private static String stringValue(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -1,9 +1,12 @@
 package com.hydro.common.jwt.domain;
 
 import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.exception.JwtTokenException;
+import com.hydro.common.jwt.cache.JwtClaimsCache;
+import com.hydro.common.jwt.revocation.JwtRevocationList;
+import com.hydro.common.jwt.signing.JwtCodecService;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 
 /**
  * Jwt Pair class for storing the token and claims.
@@ -14,12 +17,30 @@ import io.jsonwebtoken.Jwts;
 public final class JwtPair {
     private final String token;
 
-    private final Claims claimSet;
+    private final JwtClaimSnapshot snapshot;
 
-    public JwtPair(String token, AppEnvironmentService appEnvironmentService) {
+    public JwtPair(String token, JwtCodecService jwtCodecService) {
         this.token = token;
-        this.claimSet = (Claims) Jwts.parser().setSigningKey(appEnvironmentService.getSigningKey()).parse(token)
-                .getBody();
+        this.snapshot = JwtClaimsCache.getInstance().getSnapshot(token, jwtCodecService.getJwtCodec());
+        if(snapshot.getJwtType() == JwtType.REFRESH) {
+            throw new JwtTokenException("Refresh tokens can not be used for authentication.");
+        }
+        if(JwtRevocationList.getInstance().isRevoked(snapshot.getTokenId())) {
+            throw new JwtTokenException("Token has been revoked.");
+        }
+    }
+
+    /**
+     * Creates the pair with the codec of the given environment.
+     * 
+     * @param token                 The jwt token.
+     * @param appEnvironmentService The environment with the signing configuration.
+     * @deprecated Use {@link #JwtPair(String, JwtCodecService)} so the codec bean
+     *             of the application is used.
+     */
+    @Deprecated
+    public JwtPair(String token, AppEnvironmentService appEnvironmentService) {
+        this(token, JwtCodecService.forEnvironment(appEnvironmentService));
     }
 
     public String getToken() {
@@ -27,6 +48,10 @@ public final class JwtPair {
     }
 
     public Claims getClaimSet() {
-        return claimSet;
+        return snapshot.getClaims();
+    }
+
+    public JwtClaimSnapshot getSnapshot() {
+        return snapshot;
     }
 }
@@ -0,0 +1,51 @@
+package com.hydro.common.jwt.domain;
+
+/**
+ * Short lived access token paired with the refresh token that can be
+ * exchanged for the next grant without logging in again. The session
+ * expiration is carried over from the first grant and neither token outlives
+ * it. Expirations are in epoch millis.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class JwtTokenGrant {
+    private final String accessToken;
+
+    private final String refreshToken;
+
+    private final long accessExpiration;
+
+    private final long refreshExpiration;
+
+    private final long sessionExpiration;
+
+    public JwtTokenGrant(String accessToken, String refreshToken, long accessExpiration, long refreshExpiration,
+                         long sessionExpiration) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.accessExpiration = accessExpiration;
+        this.refreshExpiration = refreshExpiration;
+        this.sessionExpiration = sessionExpiration;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public long getAccessExpiration() {
+        return accessExpiration;
+    }
+
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    public long getSessionExpiration() {
+        return sessionExpiration;
+    }
+}
@@ -10,7 +10,8 @@ import com.hydro.common.dictionary.enums.TextEnum;
  */
 public enum JwtType implements TextEnum {
     SYSTEM("SYSTEM_JWT"),
-    WEB("WEB_JWT");
+    WEB("WEB_JWT"),
+    REFRESH("REFRESH_JWT");
 
     private String textId;
 
@@ -0,0 +1,87 @@
+package com.hydro.common.jwt.domain;
+
+import java.time.Duration;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Result of a single token verification. Holds the verified claims and their
+ * times in epoch millis so callers can check the expiration and read claims
+ * without verifying the token again.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class JwtValidatedToken {
+    private final String token;
+
+    private final JwtClaimSnapshot snapshot;
+
+    private final long validatedAt;
+
+    public JwtValidatedToken(String token, JwtClaimSnapshot snapshot, long validatedAt) {
+        this.token = token;
+        this.snapshot = snapshot;
+        this.validatedAt = validatedAt;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Claims getClaims() {
+        return snapshot.getClaims();
+    }
+
+    public JwtClaimSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * When the token was issued in epoch millis, 0 if the token has no issued at
+     * claim.
+     * 
+     * @return long of the issued at time.
+     */
+    public long getIssuedAt() {
+        return snapshot.getIssuedAt();
+    }
+
+    /**
+     * When the token expires in epoch millis, {@link Long#MAX_VALUE} if the token
+     * has no expiration claim.
+     * 
+     * @return long of the expiration time.
+     */
+    public long getExpiration() {
+        return snapshot.getExpiration();
+    }
+
+    /**
+     * When the token was validated in epoch millis.
+     * 
+     * @return long of the validation time.
+     */
+    public long getValidatedAt() {
+        return validatedAt;
+    }
+
+    /**
+     * How long the token was still valid for when it was validated. Zero or
+     * negative if it had already expired.
+     * 
+     * @return {@link Duration} of the remaining time to live.
+     */
+    public Duration getRemainingTtl() {
+        return Duration.ofMillis(getExpiration() - validatedAt);
+    }
+
+    /**
+     * Determines if the token had expired when it was validated.
+     * 
+     * @return boolean if the token is expired.
+     */
+    public boolean isExpired() {
+        return getExpiration() <= validatedAt;
+    }
+}
@@ -0,0 +1,135 @@
+package com.hydro.common.jwt.filter;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.hydro.common.exception.controller.ErrorResponseCache;
+import com.hydro.common.jwt.context.JwtContextHolder;
+import com.hydro.common.jwt.domain.JwtPair;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtCodecService;
+import com.hydro.common.jwt.signing.JwtTokenStatus;
+import com.hydro.common.jwt.utility.JwtHolder;
+
+/**
+ * Servlet filter that binds the bearer token of the request to the
+ * {@link JwtHolder} for the duration of the request and clears it once the
+ * request completes, even if the request fails. Requests without a bearer token
+ * pass through unbound.
+ * 
+ * Every token is first run through {@link JwtCodec#precheck(String, long)} so
+ * malformed and expired tokens are rejected without any signature work. Tokens
+ * that pass are verified once and the verified claims are what gets bound.
+ * Rejected requests are answered with a 401 body from the
+ * {@link ErrorResponseCache}. The filter is opt in, it is only registered in
+ * servlet applications that set {@code security.jwt-filter.enabled} to true.
+ * Services that register the filter themselves should not also enable it, or
+ * it runs twice.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@ConditionalOnProperty(name = "security.jwt-filter.enabled", havingValue = "true")
+public class JwtHolderFilter extends OncePerRequestFilter implements Ordered {
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String MALFORMED_MESSAGE = "Token is malformed.";
+    private static final String EXPIRED_MESSAGE = "Token has expired.";
+    private static final String INVALID_MESSAGE = "Token could not be verified.";
+
+    private final JwtCodecService jwtCodecService;
+
+    private final ErrorResponseCache errorResponseCache;
+
+    public JwtHolderFilter(JwtCodecService jwtCodecService, ErrorResponseCache errorResponseCache) {
+        this.jwtCodecService = jwtCodecService;
+        this.errorResponseCache = errorResponseCache;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if(token == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        JwtTokenStatus status = JwtCodec.precheck(token, System.currentTimeMillis());
+        if(status != JwtTokenStatus.VALID) {
+            reject(request, response, status == JwtTokenStatus.EXPIRED ? EXPIRED_MESSAGE : MALFORMED_MESSAGE);
+            return;
+        }
+
+        JwtPair pair;
+        try {
+            pair = new JwtPair(token, jwtCodecService);
+        }
+        catch(RuntimeException e) {
+            reject(request, response, INVALID_MESSAGE);
+            return;
+        }
+
+        JwtPair previous = JwtContextHolder.get();
+        JwtContextHolder.set(pair);
+        try {
+            chain.doFilter(request, response);
+        }
+        finally {
+            if(previous != null) {
+                JwtContextHolder.set(previous);
+            }
+            else {
+                JwtContextHolder.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the bearer token from the authorization header.
+     * 
+     * @param request The request to read the header from.
+     * @return {@link String} of the token or null if the request has none.
+     */
+    protected String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if(header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String message)
+            throws IOException {
+        byte[] body = errorResponseCache.get(HttpStatus.UNAUTHORIZED, message, request.getRequestURI()).getBody();
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
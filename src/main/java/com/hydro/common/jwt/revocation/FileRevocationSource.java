@@ -0,0 +1,71 @@
+package com.hydro.common.jwt.revocation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link JwtRevocationSource} reading a local file with one revoked token per
+ * line. Each line holds the token id optionally followed by the expiration of
+ * the token in epoch millis, separated by whitespace. Tokens without an
+ * expiration stay revoked until they are removed from the file. Blank lines and
+ * lines starting with {@code #} are ignored.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class FileRevocationSource implements JwtRevocationSource {
+    private final Path path;
+
+    private volatile long loadedModifiedTime = Long.MIN_VALUE;
+
+    public FileRevocationSource(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public boolean isModified() {
+        return modifiedTime() != loadedModifiedTime;
+    }
+
+    @Override
+    public Map<String, Long> load() {
+        long modifiedTime = modifiedTime();
+        Map<String, Long> revocations = new HashMap<>();
+        try(BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            while((line = reader.readLine()) != null) {
+                line = line.trim();
+                if(line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] fields = line.split("\\s+");
+                revocations.put(fields[0], fields.length > 1 ? Long.parseLong(fields[1]) : Long.MAX_VALUE);
+            }
+        }
+        catch(IOException | NumberFormatException e) {
+            throw new IllegalStateException(String.format("Unable to read revocation file '%s': %s", path,
+                                                          e.getMessage()),
+                                            e);
+        }
+        loadedModifiedTime = modifiedTime;
+        return revocations;
+    }
+
+    private long modifiedTime() {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        }
+        catch(IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
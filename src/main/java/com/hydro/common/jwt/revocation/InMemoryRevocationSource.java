@@ -0,0 +1,50 @@
+package com.hydro.common.jwt.revocation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In process {@link JwtRevocationSource} for a single instance or for testing,
+ * tokens are revoked directly on the source.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class InMemoryRevocationSource implements JwtRevocationSource {
+    private final Map<String, Long> revocations = new ConcurrentHashMap<>();
+
+    private volatile boolean modified = true;
+
+    /**
+     * Revokes the token with the given id until it expires.
+     * 
+     * @param tokenId    The {@code jti} claim of the token.
+     * @param expiration When the token expires in epoch millis.
+     */
+    public void revoke(String tokenId, long expiration) {
+        revocations.put(tokenId, expiration);
+        modified = true;
+    }
+
+    /**
+     * Removes the revocation for the token with the given id.
+     * 
+     * @param tokenId The {@code jti} claim of the token.
+     */
+    public void restore(String tokenId) {
+        revocations.remove(tokenId);
+        modified = true;
+    }
+
+    @Override
+    public boolean isModified() {
+        return modified;
+    }
+
+    @Override
+    public Map<String, Long> load() {
+        modified = false;
+        return new HashMap<>(revocations);
+    }
+}
@@ -0,0 +1,334 @@
+package com.hydro.common.jwt.revocation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In memory list of revoked token ids ({@code jti} claims). Lookups first go
+ * through a bloom filter so the common case of a token that was never revoked
+ * is answered with a few array reads and no locking. Only when the filter
+ * reports a possible match is the exact set consulted, which removes the false
+ * positives of the filter.
+ * 
+ * Writes are rare and serialized. Revoking a token only sets bits in the
+ * current filter, while replacing or purging the list builds a new filter and
+ * swaps it in so readers never see a partially built filter.
+ * 
+ * Tokens revoked in process through {@link #revoke(String, long)}, such as used
+ * refresh tokens, are also kept apart from the filter so they survive the list
+ * being replaced from a {@link JwtRevocationSource} until they expire. They are
+ * only held in memory, they are not written to the source, so they are not
+ * shared with other instances of the service and are lost on restart.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtRevocationList {
+    public static final int DEFAULT_EXPECTED_REVOCATIONS = 100000;
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+    private static final JwtRevocationList INSTANCE = new JwtRevocationList(DEFAULT_EXPECTED_REVOCATIONS,
+                                                                            DEFAULT_FALSE_POSITIVE_RATE);
+
+    private final int expectedRevocations;
+
+    private final double falsePositiveRate;
+
+    private volatile Filter filter;
+
+    // Tokens revoked in process, kept when the list is replaced from a source
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private final LongAdder checks = new LongAdder();
+
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Creates a revocation list sized for the given number of revoked tokens. The
+     * filter is grown when it is rebuilt with more tokens than expected.
+     * 
+     * @param expectedRevocations The number of revoked tokens expected at once.
+     * @param falsePositiveRate   The target false positive rate of the filter.
+     */
+    public JwtRevocationList(int expectedRevocations, double falsePositiveRate) {
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new Filter(expectedRevocations, falsePositiveRate, Collections.emptyMap());
+    }
+
+    /**
+     * Gets the shared revocation list checked when a token is bound to the
+     * {@link com.hydro.common.jwt.utility.JwtHolder}.
+     * 
+     * @return {@link JwtRevocationList} shared instance.
+     */
+    public static JwtRevocationList getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Determines if the token with the given id has been revoked. Tokens without
+     * an id can not be revoked.
+     * 
+     * @param tokenId The {@code jti} claim of the token.
+     * @return boolean if the token is revoked.
+     */
+    public boolean isRevoked(String tokenId) {
+        if(tokenId == null) {
+            return false;
+        }
+
+        Filter current = filter;
+        if(current.isEmpty()) {
+            return false;
+        }
+
+        checks.increment();
+        if(!current.mightContain(hash(tokenId))) {
+            return false;
+        }
+
+        boolean revoked = current.entries.containsKey(tokenId);
+        if(!revoked) {
+            falsePositives.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Revokes the token with the given id until the given expiration. After the
+     * expiration the token is rejected as expired so the entry can be purged.
+     * 
+     * @param tokenId    The {@code jti} claim of the token.
+     * @param expiration When the token expires in epoch millis.
+     * @return {@code true} if the token was not already revoked.
+     */
+    public boolean revoke(String tokenId, long expiration) {
+        return revoke(tokenId, expiration, System.currentTimeMillis());
+    }
+
+    /**
+     * Revokes the token with the given id until the given expiration. When the
+     * filter is full it is rebuilt without the tokens that have expired by now,
+     * so it only grows with the tokens that are still revoked.
+     * 
+     * @param tokenId    The {@code jti} claim of the token.
+     * @param expiration When the token expires in epoch millis.
+     * @param now        The current time in epoch millis.
+     * @return {@code true} if the token was not already revoked.
+     */
+    public synchronized boolean revoke(String tokenId, long expiration, long now) {
+        Filter current = filter;
+        if(current.entries.containsKey(tokenId)) {
+            return false;
+        }
+
+        revoked.put(tokenId, expiration);
+        if(current.entries.size() >= current.capacity) {
+            revoked.values().removeIf(revokedUntil -> revokedUntil <= now);
+            Map<String, Long> entries = new ConcurrentHashMap<>();
+            current.entries.forEach((id, revokedUntil) -> {
+                if(revokedUntil > now) {
+                    entries.put(id, revokedUntil);
+                }
+            });
+            entries.put(tokenId, expiration);
+            filter = new Filter(Math.max(expectedRevocations, entries.size() * 2), falsePositiveRate, entries);
+        }
+        else {
+            current.entries.put(tokenId, expiration);
+            current.put(hash(tokenId));
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the revoked tokens with the given tokens, dropping the ones that
+     * have already expired. Tokens revoked in process through
+     * {@link #revoke(String, long)} are kept until they expire.
+     * 
+     * @param revocations The revoked token ids mapped to their expiration.
+     * @param now         The current time in epoch millis.
+     */
+    public synchronized void replaceAll(Map<String, Long> revocations, long now) {
+        Map<String, Long> entries = new ConcurrentHashMap<>();
+        revocations.forEach((tokenId, expiration) -> {
+            if(expiration > now) {
+                entries.put(tokenId, expiration);
+            }
+        });
+
+        revoked.values().removeIf(expiration -> expiration <= now);
+        revoked.forEach((tokenId, expiration) -> entries.merge(tokenId, expiration, Math::max));
+        filter = new Filter(Math.max(expectedRevocations, entries.size() * 2), falsePositiveRate, entries);
+    }
+
+    /**
+     * Removes the revoked tokens that have expired.
+     * 
+     * @param now The current time in epoch millis.
+     */
+    public synchronized void purgeExpired(long now) {
+        Map<String, Long> entries = filter.entries;
+        if(entries.values().stream().anyMatch(expiration -> expiration <= now)) {
+            replaceAll(entries, now);
+        }
+    }
+
+    /**
+     * Removes every revoked token, including the tokens revoked in process.
+     */
+    public synchronized void clear() {
+        revoked.clear();
+        filter = new Filter(expectedRevocations, falsePositiveRate, Collections.emptyMap());
+    }
+
+    /**
+     * Loads the revoked tokens from the given source if it has changed. The source
+     * replaces the revoked tokens it previously loaded, tokens revoked in process
+     * are kept, see {@link #replaceAll(Map, long)}.
+     * 
+     * @param source The source of the revoked tokens.
+     * @param now    The current time in epoch millis.
+     * @return boolean if the list was reloaded.
+     */
+    public boolean refresh(JwtRevocationSource source, long now) {
+        if(!source.isModified()) {
+            return false;
+        }
+        replaceAll(source.load(), now);
+        return true;
+    }
+
+    /**
+     * The number of revoked tokens in the list.
+     * 
+     * @return int of the revoked token count.
+     */
+    public int size() {
+        return filter.entries.size();
+    }
+
+    /**
+     * The number of lookups that went through the filter.
+     * 
+     * @return long of the lookup count.
+     */
+    public long getCheckCount() {
+        return checks.sum();
+    }
+
+    /**
+     * The number of lookups the filter matched that were not revoked.
+     * 
+     * @return long of the false positive count.
+     */
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * The observed false positive rate of the filter, the share of lookups that
+     * had to consult the exact set for a token that was not revoked.
+     * 
+     * @return double of the observed false positive rate.
+     */
+    public double getFalsePositiveRate() {
+        long total = checks.sum();
+        return total == 0 ? 0 : (double) falsePositives.sum() / total;
+    }
+
+    /**
+     * The false positive rate the filter is expected to have for the number of
+     * revoked tokens it currently holds.
+     * 
+     * @return double of the expected false positive rate.
+     */
+    public double getExpectedFalsePositiveRate() {
+        Filter current = filter;
+        double bits = current.bits.length() * 64.0;
+        return Math.pow(1 - Math.exp(-current.hashCount * current.entries.size() / bits), current.hashCount);
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the token id, finished with the murmur3 mixer so the
+     * two halves can be used as independent hashes.
+     */
+    private static long hash(String tokenId) {
+        long h = 0xcbf29ce484222325L;
+        for(int i = 0; i < tokenId.length(); i++) {
+            h = (h ^ tokenId.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Bloom filter over the revoked token ids together with the exact entries it
+     * was built from.
+     */
+    private static final class Filter {
+        private final int capacity;
+
+        private final int hashCount;
+
+        private final long mask;
+
+        private final AtomicLongArray bits;
+
+        private final Map<String, Long> entries;
+
+        private Filter(int capacity, double falsePositiveRate, Map<String, Long> entries) {
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            long bitCount = Long.highestOneBit(Math.max(64, optimalBits - 1)) << 1;
+
+            this.capacity = capacity;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.mask = bitCount - 1;
+            this.bits = new AtomicLongArray((int) (bitCount >>> 6));
+            this.entries = entries instanceof ConcurrentHashMap ? entries : new ConcurrentHashMap<>(entries);
+
+            for(String tokenId : this.entries.keySet()) {
+                put(hash(tokenId));
+            }
+        }
+
+        private boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        private boolean mightContain(long hash) {
+            long h1 = hash;
+            long h2 = hash >>> 32 | 1;
+            for(int i = 0; i < hashCount; i++) {
+                long index = (h1 + i * h2) & mask;
+                if((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(long hash) {
+            long h1 = hash;
+            long h2 = hash >>> 32 | 1;
+            for(int i = 0; i < hashCount; i++) {
+                long index = (h1 + i * h2) & mask;
+                int word = (int) (index >>> 6);
+                long bit = 1L << index;
+                long value;
+                do {
+                    value = bits.get(word);
+                }
+                while((value & bit) == 0 && !bits.compareAndSet(word, value, value | bit));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.hydro.common.jwt.revocation;
+
+import java.util.Map;
+
+/**
+ * Source of revoked token ids that the {@link JwtRevocationList} is loaded
+ * from.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public interface JwtRevocationSource {
+
+    /**
+     * Determines if the source has changed since it was last loaded.
+     * 
+     * @return boolean if the source should be loaded.
+     */
+    default boolean isModified() {
+        return true;
+    }
+
+    /**
+     * Loads every revoked token id.
+     * 
+     * @return {@link Map} of the revoked token ids to their expiration in epoch
+     *         millis.
+     */
+    Map<String, Long> load();
+}
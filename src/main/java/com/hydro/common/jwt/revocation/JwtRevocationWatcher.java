@@ -0,0 +1,85 @@
+package com.hydro.common.jwt.revocation;
+
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.hydro.common.environment.AppEnvironmentService;
+
+/**
+ * Keeps the shared {@link JwtRevocationList} up to date with the configured
+ * {@link JwtRevocationSource}. A source bean takes precedence over the
+ * revocation file from the {@link AppEnvironmentService}. If neither is
+ * configured the list is still purged of expired tokens on the same interval,
+ * so tokens revoked in process, such as used refresh tokens, do not pile up.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class JwtRevocationWatcher implements InitializingBean, DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtRevocationWatcher.class);
+
+    public static final long REFRESH_INTERVAL = 10000; // 10 seconds
+
+    @Autowired
+    private AppEnvironmentService appEnvironmentService;
+
+    @Autowired(required = false)
+    private JwtRevocationSource revocationSource;
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet() {
+        JwtRevocationSource source = revocationSource;
+        if(source == null && appEnvironmentService.getRevocationFile() != null) {
+            source = new FileRevocationSource(Paths.get(appEnvironmentService.getRevocationFile()));
+        }
+        if(source != null) {
+            refresh(source);
+        }
+
+        final JwtRevocationSource watched = source;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-revocation-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> refresh(watched), REFRESH_INTERVAL, REFRESH_INTERVAL,
+                                        TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if(executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reloads the list from the source if it changed, otherwise purges the
+     * expired tokens.
+     * 
+     * @param source The source to reload from, may be null if there is none.
+     */
+    private void refresh(JwtRevocationSource source) {
+        try {
+            JwtRevocationList list = JwtRevocationList.getInstance();
+            if(source == null || !list.refresh(source, System.currentTimeMillis())) {
+                list.purgeExpired(System.currentTimeMillis());
+            }
+        }
+        catch(RuntimeException e) {
+            LOGGER.error("Unable to refresh revoked tokens, keeping the current list: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.hydro.common.jwt.signing;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+import com.hydro.common.exception.JwtTokenException;
+
+import io.jsonwebtoken.SignatureException;
+
+/**
+ * Signing strategy using a public/private key pair (RSA, ECDSA or EdDSA). The
+ * private key is optional so services that only validate tokens never need to
+ * hold it. The keys are parsed once when the strategy is created and each
+ * thread keeps its own initialized {@link Signature} for signing and verifying.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class AsymmetricSigningStrategy implements JwtSigningStrategy {
+    private final JwtAlgorithm algorithm;
+
+    private final PublicKey publicKey;
+
+    private final PrivateKey privateKey;
+
+    private final ThreadLocal<Signature> signers = ThreadLocal.withInitial(this::newSigner);
+
+    private final ThreadLocal<Signature> verifiers = ThreadLocal.withInitial(this::newVerifier);
+
+    /**
+     * Creates a strategy that can only verify tokens.
+     * 
+     * @param algorithm The asymmetric algorithm to use.
+     * @param publicKey The public key to verify with.
+     */
+    public AsymmetricSigningStrategy(JwtAlgorithm algorithm, PublicKey publicKey) {
+        this(algorithm, publicKey, null);
+    }
+
+    /**
+     * Creates a strategy that can sign and verify tokens.
+     * 
+     * @param algorithm  The asymmetric algorithm to use.
+     * @param publicKey  The public key to verify with.
+     * @param privateKey The private key to sign with, may be null.
+     */
+    public AsymmetricSigningStrategy(JwtAlgorithm algorithm, PublicKey publicKey, PrivateKey privateKey) {
+        Assert.isTrue(!algorithm.isHmac(), "Algorithm must be an asymmetric algorithm");
+        Assert.notNull(publicKey, "Public key must not be null");
+        this.algorithm = algorithm;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+    }
+
+    @Override
+    public JwtAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public boolean canSign() {
+        return privateKey != null;
+    }
+
+    @Override
+    public byte[] sign(byte[] content) {
+        if(!canSign()) {
+            throw new JwtTokenException("Signing key is verify only. Tokens can not be issued by this service.");
+        }
+
+        try {
+            Signature signature = signers.get();
+            signature.update(content);
+            return signature.sign();
+        }
+        catch(GeneralSecurityException e) {
+            signers.remove();
+            throw new SignatureException("Unable to compute " + algorithm.getTextId() + " signature", e);
+        }
+    }
+
+    @Override
+    public boolean verify(byte[] content, byte[] signature) {
+        Signature verifier = verifiers.get();
+        try {
+            verifier.update(content);
+            return verifier.verify(signature);
+        }
+        catch(java.security.SignatureException e) {
+            verifiers.remove();
+            return false;
+        }
+    }
+
+    private Signature newSigner() {
+        try {
+            Signature signature = Signature.getInstance(algorithm.getJcaName());
+            signature.initSign(privateKey);
+            return signature;
+        }
+        catch(GeneralSecurityException e) {
+            throw new SignatureException("Unable to initialize " + algorithm.getTextId() + " signer", e);
+        }
+    }
+
+    private Signature newVerifier() {
+        try {
+            Signature signature = Signature.getInstance(algorithm.getJcaName());
+            signature.initVerify(publicKey);
+            return signature;
+        }
+        catch(GeneralSecurityException e) {
+            throw new SignatureException("Unable to initialize " + algorithm.getTextId() + " verifier", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof AsymmetricSigningStrategy)) {
+            return false;
+        }
+        AsymmetricSigningStrategy o = (AsymmetricSigningStrategy) other;
+        return algorithm == o.algorithm && publicKey.equals(o.publicKey) && Objects.equals(privateKey, o.privateKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(algorithm, publicKey);
+    }
+}
@@ -0,0 +1,88 @@
+package com.hydro.common.jwt.signing;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.util.Assert;
+
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.impl.TextCodec;
+
+/**
+ * Signing strategy using a shared secret. The secret is base64 decoded the same
+ * way jjwt decodes a string key so tokens stay compatible with services that
+ * still sign with jjwt. Each thread keeps its own initialized {@link Mac} so the
+ * key is only set up once per thread instead of once per token.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class HmacSigningStrategy implements JwtSigningStrategy {
+    private final JwtAlgorithm algorithm;
+
+    private final SecretKeySpec key;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    /**
+     * Creates a strategy for the given algorithm and base64 encoded secret.
+     * 
+     * @param algorithm The HMAC algorithm to use.
+     * @param secret    The base64 encoded shared secret.
+     */
+    public HmacSigningStrategy(JwtAlgorithm algorithm, String secret) {
+        Assert.isTrue(algorithm.isHmac(), "Algorithm must be an HMAC algorithm");
+        Assert.hasText(secret, "Signing key must not be empty");
+        this.algorithm = algorithm;
+        this.key = new SecretKeySpec(TextCodec.BASE64.decode(secret), algorithm.getJcaName());
+    }
+
+    @Override
+    public JwtAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public boolean canSign() {
+        return true;
+    }
+
+    @Override
+    public byte[] sign(byte[] content) {
+        return macs.get().doFinal(content);
+    }
+
+    @Override
+    public boolean verify(byte[] content, byte[] signature) {
+        return MessageDigest.isEqual(sign(content), signature);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(algorithm.getJcaName());
+            mac.init(key);
+            return mac;
+        }
+        catch(GeneralSecurityException e) {
+            throw new SignatureException("Unable to initialize " + algorithm.getTextId() + " signer", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof HmacSigningStrategy)) {
+            return false;
+        }
+        HmacSigningStrategy o = (HmacSigningStrategy) other;
+        return algorithm == o.algorithm && key.equals(o.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(algorithm, key);
+    }
+}
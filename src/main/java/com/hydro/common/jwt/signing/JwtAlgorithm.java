@@ -0,0 +1,102 @@
+package com.hydro.common.jwt.signing;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+
+import javax.crypto.Mac;
+
+import com.hydro.common.dictionary.enums.TextEnum;
+
+/**
+ * Supported JWS signing algorithms. The text id is the value written to the
+ * {@code alg} header of the token.
+ * 
+ * {@link #EDDSA} uses the Ed25519 implementation built into JDK 15 and later.
+ * On older JDKs it is not available and configuring it fails at startup, see
+ * {@link #isAvailable()}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public enum JwtAlgorithm implements TextEnum {
+    HS512("HS512", "HmacSHA512", null, 11),
+    RS256("RS256", "SHA256withRSA", "RSA", 11),
+    ES256("ES256", "SHA256withECDSAinP1363Format", "EC", 11),
+    EDDSA("EdDSA", "Ed25519", "Ed25519", 15);
+
+    private String textId;
+    private String jcaName;
+    private String keyAlgorithm;
+    private int minimumJdk;
+
+    private JwtAlgorithm(String textId, String jcaName, String keyAlgorithm, int minimumJdk) {
+        this.textId = textId;
+        this.jcaName = jcaName;
+        this.keyAlgorithm = keyAlgorithm;
+        this.minimumJdk = minimumJdk;
+    }
+
+    @Override
+    public String getTextId() {
+        return textId;
+    }
+
+    /**
+     * The JCA name of the {@link javax.crypto.Mac} or
+     * {@link java.security.Signature} used by the algorithm.
+     * 
+     * @return {@link String} of the JCA name.
+     */
+    public String getJcaName() {
+        return jcaName;
+    }
+
+    /**
+     * The {@link java.security.KeyFactory} algorithm used to read the keys for an
+     * asymmetric algorithm. This will be null for HMAC algorithms.
+     * 
+     * @return {@link String} of the key algorithm.
+     */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * The oldest JDK version with a built in implementation of the algorithm.
+     * 
+     * @return int of the JDK feature version.
+     */
+    public int getMinimumJdk() {
+        return minimumJdk;
+    }
+
+    /**
+     * Determines if the running JDK provides the {@link javax.crypto.Mac} or
+     * {@link java.security.Signature} of the algorithm.
+     * 
+     * @return boolean if the algorithm can be used.
+     */
+    public boolean isAvailable() {
+        try {
+            if(isHmac()) {
+                Mac.getInstance(jcaName);
+            }
+            else {
+                Signature.getInstance(jcaName);
+            }
+            return true;
+        }
+        catch(NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Determines if the algorithm uses a shared secret.
+     * 
+     * @return boolean if the algorithm is HMAC based.
+     */
+    public boolean isHmac() {
+        return keyAlgorithm == null;
+    }
+}
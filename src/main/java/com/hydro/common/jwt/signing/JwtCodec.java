@@ -0,0 +1,402 @@
+package com.hydro.common.jwt.signing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hydro.common.jwt.utility.JwtClaimConverter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.impl.DefaultClaims;
+
+/**
+ * Encodes and decodes compact signed jwts using a {@link JwtSigningStrategy}.
+ * The token layout matches what jjwt produces so tokens signed here can be
+ * validated by jjwt and the other way around.
+ * 
+ * A codec is created once per signing configuration and shared by every
+ * caller. The encoded header is computed up front so signing only serializes
+ * the claims, and tokens carrying the same header skip header parsing when
+ * they are verified. New tokens are signed with the active key of the
+ * {@link JwtKeyRing} and carry its id in the {@code kid} header, other tokens
+ * are verified with the key their {@code kid} header refers to.
+ * 
+ * System tokens can also be issued in the compact format of
+ * {@link JwtCompactClaims}, a single base64 body and signature separated by one
+ * period. {@link #decode(String)} reads both formats.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtCodec {
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private static final ObjectReader MAP_READER = JwtClaimConverter.getObjectReader().forType(MAP_TYPE);
+
+    private static final ObjectWriter WRITER = JwtClaimConverter.getObjectWriter();
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final long MALFORMED_EXPIRATION = Long.MIN_VALUE;
+
+    private final JwtKeyRing keyRing;
+
+    private final JwtSigningStrategy strategy;
+
+    private final byte[] encodedHeader;
+
+    private final String encodedHeaderText;
+
+    /**
+     * Creates a codec that signs and verifies with the given strategy.
+     * 
+     * @param strategy The strategy to sign and verify with.
+     */
+    public JwtCodec(JwtSigningStrategy strategy) {
+        this(JwtKeyRing.of(strategy));
+    }
+
+    /**
+     * Creates a codec that signs with the active key of the ring and verifies
+     * with any key in it.
+     * 
+     * @param keyRing The keys to sign and verify with.
+     */
+    public JwtCodec(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.strategy = keyRing.getActive();
+
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", strategy.getAlgorithm().getTextId());
+        if(keyRing.getActiveKeyId() != null) {
+            header.put("kid", keyRing.getActiveKeyId());
+        }
+        this.encodedHeader = ENCODER.encode(toJson(header));
+        this.encodedHeaderText = new String(encodedHeader, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Gets the strategy of the active key the codec signs with.
+     * 
+     * @return {@link JwtSigningStrategy} of the codec.
+     */
+    public JwtSigningStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the keys the codec verifies with.
+     * 
+     * @return {@link JwtKeyRing} of the codec.
+     */
+    public JwtKeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    /**
+     * Creates a signed compact token for the given claims.
+     * 
+     * @param claims     The claims to add to the token.
+     * @param issuedAt   When the token was issued in epoch millis.
+     * @param expiration When the token expires in epoch millis.
+     * @return {@link String} of the signed token.
+     */
+    public String encode(Map<String, Object> claims, long issuedAt, long expiration) {
+        // The expiration is written first so precheck can stop reading after it
+        Map<String, Object> body = new LinkedHashMap<>(claims.size() + 2);
+        body.put(Claims.EXPIRATION, null);
+        body.putAll(claims);
+        body.put(Claims.EXPIRATION, expiration / 1000);
+        body.put(Claims.ISSUED_AT, issuedAt / 1000);
+        byte[] payload = ENCODER.encode(toJson(body));
+
+        byte[] content = new byte[encodedHeader.length + 1 + payload.length];
+        System.arraycopy(encodedHeader, 0, content, 0, encodedHeader.length);
+        content[encodedHeader.length] = '.';
+        System.arraycopy(payload, 0, content, encodedHeader.length + 1, payload.length);
+
+        byte[] signature = ENCODER.encode(strategy.sign(content));
+        byte[] token = new byte[content.length + 1 + signature.length];
+        System.arraycopy(content, 0, token, 0, content.length);
+        token[content.length] = '.';
+        System.arraycopy(signature, 0, token, content.length + 1, signature.length);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Creates a signed compact token for the given system token claims. The token
+     * is a base64 binary body and its signature separated by a single period.
+     * 
+     * @param claims     The claims to add to the token.
+     * @param issuedAt   When the token was issued in epoch millis.
+     * @param expiration When the token expires in epoch millis.
+     * @return {@link String} of the signed compact token.
+     * @throws IllegalArgumentException If a claim is not supported by the compact
+     *                                  format.
+     */
+    public String encodeCompact(Map<String, Object> claims, long issuedAt, long expiration) {
+        byte[] body = ENCODER.encode(JwtCompactClaims.write(keyRing.getActiveKeyId(), claims, issuedAt, expiration));
+        byte[] signature = ENCODER.encode(strategy.sign(body));
+
+        byte[] token = new byte[body.length + 1 + signature.length];
+        System.arraycopy(body, 0, token, 0, body.length);
+        token[body.length] = '.';
+        System.arraycopy(signature, 0, token, body.length + 1, signature.length);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Verifies the signature of the given token and returns its claims. Both
+     * standard and compact tokens are accepted. Unsigned tokens, tokens with an
+     * unknown key id and tokens signed with a different algorithm than their key
+     * are rejected.
+     * 
+     * @param token The token to decode.
+     * @return {@link Claims} of the token.
+     * @throws MalformedJwtException   If the token is not a valid jwt.
+     * @throws UnsupportedJwtException If the token is not signed.
+     * @throws SignatureException      If the signature is not valid.
+     */
+    public Claims decode(String token) {
+        if(token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if(headerEnd > 0 && payloadEnd < 0) {
+            return decodeCompact(token, headerEnd);
+        }
+        if(headerEnd < 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new MalformedJwtException("JWT strings must contain exactly 2 period characters.");
+        }
+        if(payloadEnd == token.length() - 1) {
+            throw new UnsupportedJwtException("Unsigned JWTs are not supported.");
+        }
+
+        JwtSigningStrategy verifier = strategy;
+        if(!isExpectedHeader(token, headerEnd)) {
+            verifier = resolveVerifier(fromJson(token.substring(0, headerEnd)));
+        }
+
+        byte[] content = token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII);
+        if(!verifier.verify(content, base64(token.substring(payloadEnd + 1)))) {
+            throw new SignatureException("JWT signature does not match locally computed signature. JWT validity cannot be asserted and should not be trusted.");
+        }
+        return new DefaultClaims(fromJson(token.substring(headerEnd + 1, payloadEnd)));
+    }
+
+    /**
+     * Gets the key that verifies the given token from the key id of its header or
+     * compact body, without checking the signature. Signing strategies have value
+     * equality, so the result can be compared across codecs built from the same
+     * keys, such as to check that a cached verification was made with a key that
+     * is still in the ring.
+     * 
+     * @param token The token to get the key for.
+     * @return {@link JwtSigningStrategy} of the key, or null if the token is
+     *         malformed or its key is not in the ring.
+     */
+    public JwtSigningStrategy getVerifier(String token) {
+        int headerEnd = token != null ? token.indexOf('.') : -1;
+        if(headerEnd <= 0) {
+            return null;
+        }
+        if(isExpectedHeader(token, headerEnd)) {
+            return strategy;
+        }
+
+        try {
+            if(token.indexOf('.', headerEnd + 1) < 0) {
+                return keyRing.get(JwtCompactClaims.readKeyId(base64(token.substring(0, headerEnd))));
+            }
+            return resolveVerifier(fromJson(token.substring(0, headerEnd)));
+        }
+        catch(RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cheap check of the token structure and expiration that is done before the
+     * signature is verified, so garbage and expired tokens can be rejected
+     * without any signature work or exceptions. Only the payload is decoded and
+     * only the expiration is read from it. A {@link JwtTokenStatus#VALID} result
+     * does not mean the token can be trusted, it still has to be decoded.
+     * 
+     * @param token The token to check.
+     * @param now   The current time in epoch millis.
+     * @return {@link JwtTokenStatus} of the token.
+     */
+    public static JwtTokenStatus precheck(String token, long now) {
+        if(token == null) {
+            return JwtTokenStatus.MALFORMED;
+        }
+
+        int length = token.length();
+        int headerEnd = -1;
+        int payloadEnd = -1;
+        for(int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if(c == '.') {
+                if(headerEnd < 0) {
+                    headerEnd = i;
+                }
+                else if(payloadEnd < 0) {
+                    payloadEnd = i;
+                }
+                else {
+                    return JwtTokenStatus.MALFORMED;
+                }
+            }
+            else if(!isBase64Url(c)) {
+                return JwtTokenStatus.MALFORMED;
+            }
+        }
+
+        long expiration;
+        if(headerEnd <= 0 || headerEnd == length - 1) {
+            return JwtTokenStatus.MALFORMED;
+        }
+        else if(payloadEnd < 0) {
+            expiration = peekCompactExpiration(token.substring(0, headerEnd));
+        }
+        else if(payloadEnd == headerEnd + 1 || payloadEnd == length - 1) {
+            return JwtTokenStatus.MALFORMED;
+        }
+        else {
+            expiration = peekJsonExpiration(token.substring(headerEnd + 1, payloadEnd));
+        }
+
+        if(expiration == MALFORMED_EXPIRATION) {
+            return JwtTokenStatus.MALFORMED;
+        }
+        return expiration > now ? JwtTokenStatus.VALID : JwtTokenStatus.EXPIRED;
+    }
+
+    private static long peekJsonExpiration(String segment) {
+        if(segment.length() % 4 == 1) {
+            return MALFORMED_EXPIRATION;
+        }
+
+        try(JsonParser parser = MAP_READER.getFactory().createParser(DECODER.decode(segment))) {
+            if(parser.nextToken() != JsonToken.START_OBJECT) {
+                return MALFORMED_EXPIRATION;
+            }
+            while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if(Claims.EXPIRATION.equals(name)) {
+                    return value.isNumeric() ? parser.getLongValue() * 1000 : MALFORMED_EXPIRATION;
+                }
+                parser.skipChildren();
+            }
+            return Long.MAX_VALUE;
+        }
+        catch(IOException | IllegalArgumentException e) {
+            return MALFORMED_EXPIRATION;
+        }
+    }
+
+    private static long peekCompactExpiration(String segment) {
+        if(segment.length() % 4 == 1) {
+            return MALFORMED_EXPIRATION;
+        }
+
+        try {
+            byte[] body = DECODER.decode(segment);
+            if(body.length == 0 || body[0] != JwtCompactClaims.VERSION) {
+                return MALFORMED_EXPIRATION;
+            }
+
+            Object expiration = JwtCompactClaims.read(body).get(Claims.EXPIRATION);
+            return expiration != null ? ((Number) expiration).longValue() * 1000 : Long.MAX_VALUE;
+        }
+        catch(RuntimeException e) {
+            return MALFORMED_EXPIRATION;
+        }
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    private Claims decodeCompact(String token, int bodyEnd) {
+        if(bodyEnd == token.length() - 1) {
+            throw new UnsupportedJwtException("Unsigned JWTs are not supported.");
+        }
+
+        String segment = token.substring(0, bodyEnd);
+        byte[] body = base64(segment);
+        String keyId = JwtCompactClaims.readKeyId(body);
+        JwtSigningStrategy verifier = keyRing.get(keyId);
+        if(verifier == null) {
+            throw new SignatureException(String.format("JWT key id '%s' is not a known signing key.", keyId));
+        }
+
+        if(!verifier.verify(segment.getBytes(StandardCharsets.US_ASCII), base64(token.substring(bodyEnd + 1)))) {
+            throw new SignatureException("JWT signature does not match locally computed signature. JWT validity cannot be asserted and should not be trusted.");
+        }
+        return new DefaultClaims(JwtCompactClaims.read(body));
+    }
+
+    private JwtSigningStrategy resolveVerifier(Map<String, Object> header) {
+        Object keyId = header.get("kid");
+        JwtSigningStrategy verifier = keyRing.get(keyId != null ? keyId.toString() : null);
+        if(verifier == null) {
+            throw new SignatureException(String.format("JWT key id '%s' is not a known signing key.", keyId));
+        }
+
+        String algorithm = verifier.getAlgorithm().getTextId();
+        Object tokenAlgorithm = header.get("alg");
+        if(!algorithm.equals(tokenAlgorithm)) {
+            throw new SignatureException(String.format("JWT algorithm '%s' does not match the expected algorithm '%s'.",
+                                                       tokenAlgorithm, algorithm));
+        }
+        return verifier;
+    }
+
+    private boolean isExpectedHeader(String token, int headerEnd) {
+        return headerEnd == encodedHeaderText.length() && token.startsWith(encodedHeaderText);
+    }
+
+    private static byte[] toJson(Map<String, Object> value) {
+        try {
+            return WRITER.writeValueAsBytes(value);
+        }
+        catch(JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize JWT to JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Object> fromJson(String segment) {
+        try {
+            return MAP_READER.readValue(base64(segment));
+        }
+        catch(IOException e) {
+            throw new MalformedJwtException("Unable to read JWT JSON value: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] base64(String segment) {
+        try {
+            return DECODER.decode(segment);
+        }
+        catch(IllegalArgumentException e) {
+            throw new MalformedJwtException("Unable to decode JWT segment: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.hydro.common.jwt.signing;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.jwt.cache.JwtClaimsCache;
+
+/**
+ * Owns the {@link JwtCodec} built from the signing configuration of the
+ * {@link AppEnvironmentService}. The codec is created once and shared by every
+ * caller. If a key ring file is configured the codec is rebuilt when the file
+ * changes, keeping the keys that were removed from it until their tokens have
+ * expired.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Service
+public class JwtCodecService implements InitializingBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtCodecService.class);
+
+    // Codec services by environment, for callers that only have the environment
+    private static final Map<AppEnvironmentService, JwtCodecService> SERVICES = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    @Autowired
+    private AppEnvironmentService appEnvironmentService;
+
+    private volatile JwtCodec jwtCodec;
+
+    private volatile JwtKeyRingFile keyRingFile;
+
+    private JwtKeyRing keyRing;
+
+    public JwtCodecService() {}
+
+    public JwtCodecService(AppEnvironmentService appEnvironmentService) {
+        this.appEnvironmentService = appEnvironmentService;
+    }
+
+    /**
+     * Gets the codec service for the given environment. This returns the service
+     * bean created for the environment if there is one, so its codec and key ring
+     * are shared, otherwise a service is created for the environment once.
+     * 
+     * @param appEnvironmentService The environment with the signing configuration.
+     * @return {@link JwtCodecService} for the environment.
+     * @deprecated Inject the {@link JwtCodecService} instead. This only exists for
+     *             callers of the deprecated
+     *             {@link com.hydro.common.jwt.domain.JwtPair#JwtPair(String, AppEnvironmentService)}.
+     */
+    @Deprecated
+    public static JwtCodecService forEnvironment(AppEnvironmentService appEnvironmentService) {
+        return SERVICES.computeIfAbsent(appEnvironmentService, JwtCodecService::new);
+    }
+
+    /**
+     * Checks at startup that the JDK provides the configured signing algorithm,
+     * so a service configured for EdDSA on an older JDK fails to start rather
+     * than on the first token.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        JwtSigningStrategies.checkAvailable(appEnvironmentService.getSigningAlgorithm());
+        SERVICES.putIfAbsent(appEnvironmentService, this);
+    }
+
+    /**
+     * Gets the codec used to sign and verify jwt tokens. The codec is created
+     * once from the configured algorithm and keys and shared by every caller
+     * until {@link #invalidateSigningKeyCaches()} is called. If a key ring file
+     * is configured the codec is rebuilt when the file changes.
+     * 
+     * @return {@link JwtCodec} for the environment.
+     */
+    public JwtCodec getJwtCodec() {
+        JwtCodec codec = jwtCodec;
+        if(codec == null || (keyRingFile != null && keyRingFile.isModified(System.currentTimeMillis()))) {
+            synchronized(this) {
+                if(codec == jwtCodec) {
+                    jwtCodec = codec == null ? createJwtCodec() : reloadJwtCodec(codec);
+                }
+                codec = jwtCodec;
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * Reloads the key ring file so a newly activated signing key is used without
+     * a restart. Keys removed from the file keep verifying the tokens they signed
+     * until those tokens have expired.
+     */
+    public void reloadSigningKeys() {
+        synchronized(this) {
+            jwtCodec = createJwtCodec();
+        }
+    }
+
+    /**
+     * Invalidates the signing codec and all cached verified tokens. This should be
+     * called when a signing key is compromised so no token is served from a
+     * verification made with it. Rotating keys does not need this, cached tokens
+     * are only served while the key they were verified with is still in the ring.
+     */
+    public void invalidateSigningKeyCaches() {
+        synchronized(this) {
+            jwtCodec = null;
+        }
+        JwtClaimsCache.getInstance().invalidateAll();
+    }
+
+    private JwtCodec reloadJwtCodec(JwtCodec current) {
+        try {
+            return createJwtCodec();
+        }
+        catch(RuntimeException e) {
+            LOGGER.error("Unable to reload signing keys, keeping the current keys: {}", e.getMessage());
+            return current;
+        }
+    }
+
+    private JwtCodec createJwtCodec() {
+        String path = appEnvironmentService.getKeyRingFile();
+        if(path == null) {
+            keyRingFile = null;
+            keyRing = null;
+            return new JwtCodec(JwtSigningStrategies.create(appEnvironmentService));
+        }
+
+        if(keyRingFile == null || !keyRingFile.getPath().equals(Paths.get(path))) {
+            keyRingFile = new JwtKeyRingFile(Paths.get(path));
+        }
+        JwtKeyRing loaded = keyRingFile.load();
+        keyRing = keyRing != null ? keyRing.rotate(loaded, System.currentTimeMillis()) : loaded;
+        return new JwtCodec(keyRing);
+    }
+}
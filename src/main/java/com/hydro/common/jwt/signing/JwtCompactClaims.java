@@ -0,0 +1,369 @@
+package com.hydro.common.jwt.signing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.utility.JwtClaimConverter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+
+/**
+ * Binary claim layout used by compact system tokens, modeled after CWT. Claims
+ * are written with integer keys instead of names, numbers as variable length
+ * integers, enums as their ordinal, UUIDs as 16 raw bytes and the part number
+ * packed into a single long. Only the claims of a system token are supported.
+ * 
+ * The body starts with a version byte and the key id of the signing key,
+ * followed by the key and value of each claim. Decoded claims hold typed
+ * values, so enums and the part number are returned as their objects instead
+ * of their json representation.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+final class JwtCompactClaims {
+    static final int VERSION = 1;
+
+    // Registered CWT claim keys
+    private static final int EXPIRATION = 4;
+    private static final int ISSUED_AT = 6;
+    private static final int TOKEN_ID = 7;
+
+    // Hydro claim keys
+    private static final int JWT_TYPE = 8;
+    private static final int ENVIRONMENT = 9;
+    private static final int WEB_ROLE = 10;
+    private static final int ID = 11;
+    private static final int UUID_BYTES = 12;
+    private static final int PART_NUMBER = 13;
+    private static final int NAME = 14;
+    private static final int OWNER_USER_ID = 15;
+    private static final int UUID_TEXT = 16;
+    private static final int TOKEN_ID_TEXT = 17;
+
+    private static final JwtType[] JWT_TYPES = JwtType.values();
+    private static final Environment[] ENVIRONMENTS = Environment.values();
+    private static final WebRole[] WEB_ROLES = WebRole.values();
+
+    private JwtCompactClaims() {}
+
+    /**
+     * Writes the claims into the compact binary layout.
+     * 
+     * @param keyId     The id of the signing key, may be null.
+     * @param claims    The claims of a system token.
+     * @param issuedAt  When the token was issued in epoch millis.
+     * @param expiration When the token expires in epoch millis.
+     * @return byte array of the encoded body.
+     * @throws IllegalArgumentException If a claim is not supported.
+     */
+    static byte[] write(String keyId, Map<String, Object> claims, long issuedAt, long expiration) {
+        Writer writer = new Writer();
+        writer.writeByte(VERSION);
+        writer.writeString(keyId != null ? keyId : "");
+        writer.writeKey(ISSUED_AT).writeVarLong(issuedAt / 1000);
+        writer.writeKey(EXPIRATION).writeVarLong(expiration / 1000);
+
+        for(Map.Entry<String, Object> claim : claims.entrySet()) {
+            Object value = claim.getValue();
+            if(value == null) {
+                continue;
+            }
+
+            switch(claim.getKey()) {
+            case Claims.ID:
+                writer.writeUuid(TOKEN_ID, TOKEN_ID_TEXT, value.toString());
+                break;
+            case HydroJwtClaims.JWT_TYPE:
+                writer.writeKey(JWT_TYPE).writeVarLong(JwtClaimConverter.convert(value, JwtType.class).ordinal());
+                break;
+            case HydroJwtClaims.ENVIRONMENT:
+                writer.writeKey(ENVIRONMENT)
+                        .writeVarLong(JwtClaimConverter.convert(value, Environment.class).ordinal());
+                break;
+            case HydroJwtClaims.WEB_ROLE:
+                writer.writeKey(WEB_ROLE).writeVarLong(JwtClaimConverter.convert(value, WebRole.class).ordinal());
+                break;
+            case HydroJwtClaims.ID:
+                writer.writeKey(ID).writeVarLong(zigZag(((Number) value).intValue()));
+                break;
+            case HydroJwtClaims.UUID:
+                writer.writeUuid(UUID_BYTES, UUID_TEXT, value.toString());
+                break;
+            case HydroJwtClaims.PART_NUMBER:
+                writer.writeKey(PART_NUMBER).writeVarLong(JwtClaimConverter.convert(value, PartNumber.class).toLong());
+                break;
+            case HydroJwtClaims.NAME:
+                writer.writeKey(NAME).writeString(value.toString());
+                break;
+            case HydroJwtClaims.OWNER_USER_ID:
+                writer.writeKey(OWNER_USER_ID).writeVarLong(zigZag(((Number) value).intValue()));
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Claim '%s' is not supported by compact tokens",
+                                                                 claim.getKey()));
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Reads the key id of the signing key from the body.
+     * 
+     * @param body The encoded body.
+     * @return {@link String} of the key id or null if the token has none.
+     */
+    static String readKeyId(byte[] body) {
+        Reader reader = new Reader(body);
+        reader.readVersion();
+        String keyId = reader.readString();
+        return keyId.isEmpty() ? null : keyId;
+    }
+
+    /**
+     * Reads the claims from the body.
+     * 
+     * @param body The encoded body.
+     * @return {@link Map} of the claim names to their typed values.
+     */
+    static Map<String, Object> read(byte[] body) {
+        Reader reader = new Reader(body);
+        reader.readVersion();
+        reader.readString();
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        while(reader.hasRemaining()) {
+            int key = reader.readByte();
+            switch(key) {
+            case ISSUED_AT:
+                claims.put(Claims.ISSUED_AT, reader.readVarLong());
+                break;
+            case EXPIRATION:
+                claims.put(Claims.EXPIRATION, reader.readVarLong());
+                break;
+            case TOKEN_ID:
+                claims.put(Claims.ID, reader.readUuid());
+                break;
+            case TOKEN_ID_TEXT:
+                claims.put(Claims.ID, reader.readString());
+                break;
+            case JWT_TYPE:
+                claims.put(HydroJwtClaims.JWT_TYPE, reader.readEnum(JWT_TYPES));
+                break;
+            case ENVIRONMENT:
+                claims.put(HydroJwtClaims.ENVIRONMENT, reader.readEnum(ENVIRONMENTS));
+                break;
+            case WEB_ROLE:
+                claims.put(HydroJwtClaims.WEB_ROLE, reader.readEnum(WEB_ROLES));
+                break;
+            case ID:
+                claims.put(HydroJwtClaims.ID, unZigZag(reader.readVarLong()));
+                break;
+            case UUID_BYTES:
+                claims.put(HydroJwtClaims.UUID, reader.readUuid());
+                break;
+            case UUID_TEXT:
+                claims.put(HydroJwtClaims.UUID, reader.readString());
+                break;
+            case PART_NUMBER:
+                claims.put(HydroJwtClaims.PART_NUMBER, unpack(reader.readVarLong()));
+                break;
+            case NAME:
+                claims.put(HydroJwtClaims.NAME, reader.readString());
+                break;
+            case OWNER_USER_ID:
+                claims.put(HydroJwtClaims.OWNER_USER_ID, unZigZag(reader.readVarLong()));
+                break;
+            default:
+                throw new MalformedJwtException(String.format("Unknown compact claim key %d.", key));
+            }
+        }
+        return claims;
+    }
+
+    private static PartNumber unpack(long packed) {
+        try {
+            return PartNumber.fromLong(packed);
+        }
+        catch(IllegalArgumentException e) {
+            throw new MalformedJwtException("Compact part number is not valid.");
+        }
+    }
+
+    private static long zigZag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static int unZigZag(long value) {
+        int encoded = (int) value;
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    /**
+     * Growable buffer the body is written into.
+     */
+    private static final class Writer {
+        private byte[] buffer = new byte[128];
+
+        private int position;
+
+        private Writer writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+            return this;
+        }
+
+        private Writer writeKey(int key) {
+            return writeByte(key);
+        }
+
+        private Writer writeVarLong(long value) {
+            ensureCapacity(10);
+            while((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+            return this;
+        }
+
+        private Writer writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+            return this;
+        }
+
+        private void writeUuid(int bytesKey, int textKey, String value) {
+            UUID uuid = parseUuid(value);
+            if(uuid == null) {
+                writeKey(textKey).writeString(value);
+                return;
+            }
+
+            writeKey(bytesKey);
+            writeLong(uuid.getMostSignificantBits());
+            writeLong(uuid.getLeastSignificantBits());
+        }
+
+        private void writeLong(long value) {
+            ensureCapacity(8);
+            for(int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensureCapacity(int length) {
+            if(position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private static UUID parseUuid(String value) {
+            if(value.length() != 36) {
+                return null;
+            }
+            try {
+                UUID uuid = UUID.fromString(value);
+                return uuid.toString().equals(value) ? uuid : null;
+            }
+            catch(IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Bounds checked cursor over the body, any read past the end is reported as
+     * a malformed token.
+     */
+    private static final class Reader {
+        private final byte[] body;
+
+        private int position;
+
+        private Reader(byte[] body) {
+            this.body = body;
+        }
+
+        private boolean hasRemaining() {
+            return position < body.length;
+        }
+
+        private void readVersion() {
+            int version = readByte();
+            if(version != VERSION) {
+                throw new MalformedJwtException(String.format("Unsupported compact token version %d.", version));
+            }
+        }
+
+        private int readByte() {
+            require(1);
+            return body[position++] & 0xFF;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for(int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new MalformedJwtException("Compact token has a malformed number.");
+        }
+
+        private String readString() {
+            long length = readVarLong();
+            if(length > body.length - position) {
+                throw new MalformedJwtException("Compact token ended unexpectedly.");
+            }
+            String value = new String(body, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        private String readUuid() {
+            return new UUID(readLong(), readLong()).toString();
+        }
+
+        private long readLong() {
+            require(8);
+            long value = 0;
+            for(int i = 0; i < 8; i++) {
+                value = value << 8 | (body[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private <T extends Enum<T>> T readEnum(T[] values) {
+            long ordinal = readVarLong();
+            if(ordinal >= values.length) {
+                throw new MalformedJwtException("Compact token has an unknown enum value.");
+            }
+            return values[(int) ordinal];
+        }
+
+        private void require(int length) {
+            if(position + length > body.length) {
+                throw new MalformedJwtException("Compact token ended unexpectedly.");
+            }
+        }
+    }
+}
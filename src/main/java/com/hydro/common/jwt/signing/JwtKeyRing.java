@@ -0,0 +1,140 @@
+package com.hydro.common.jwt.signing;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+import com.hydro.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * Immutable set of signing keys indexed by key id. The active key signs new
+ * tokens while every key in the ring can verify. When the ring is rotated, keys
+ * that are no longer provided are retired but kept until every token they could
+ * have signed has expired, so rotating the active key never invalidates live
+ * tokens.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class JwtKeyRing {
+    private final String activeKeyId;
+
+    private final String defaultKeyId;
+
+    private final Map<String, JwtSigningStrategy> keys;
+
+    private final Map<String, Long> retired;
+
+    /**
+     * Creates a ring with the given keys.
+     * 
+     * @param activeKeyId  The id of the key that signs new tokens.
+     * @param defaultKeyId The id of the key that verifies tokens without a key id,
+     *                     if null the active key is used.
+     * @param keys         The keys indexed by key id.
+     */
+    public JwtKeyRing(String activeKeyId, String defaultKeyId, Map<String, JwtSigningStrategy> keys) {
+        this(activeKeyId, defaultKeyId, keys, Collections.emptyMap());
+    }
+
+    private JwtKeyRing(String activeKeyId, String defaultKeyId, Map<String, JwtSigningStrategy> keys,
+            Map<String, Long> retired) {
+        Assert.isTrue(keys.containsKey(activeKeyId), String.format("Active key '%s' is not in the key ring",
+                                                                   activeKeyId));
+        this.activeKeyId = activeKeyId;
+        this.defaultKeyId = defaultKeyId != null ? defaultKeyId : activeKeyId;
+        this.keys = Collections.unmodifiableMap(new HashMap<>(keys));
+        this.retired = Collections.unmodifiableMap(new HashMap<>(retired));
+    }
+
+    /**
+     * Creates a ring holding a single key without a key id. Tokens signed with it
+     * do not carry a {@code kid} header.
+     * 
+     * @param strategy The only signing key.
+     * @return {@link JwtKeyRing} with the single key.
+     */
+    public static JwtKeyRing of(JwtSigningStrategy strategy) {
+        return new JwtKeyRing(null, null, Collections.singletonMap(null, strategy));
+    }
+
+    /**
+     * Creates a new ring from the given ring while keeping the keys of this ring
+     * that are not in it. Kept keys are retired and dropped once they have been
+     * retired longer than the longest token validity.
+     * 
+     * @param next The newly loaded key ring.
+     * @param now  The current time in epoch millis.
+     * @return {@link JwtKeyRing} of the rotated keys.
+     */
+    public JwtKeyRing rotate(JwtKeyRing next, long now) {
+        Map<String, JwtSigningStrategy> rotatedKeys = new HashMap<>(next.keys);
+        Map<String, Long> rotatedRetired = new HashMap<>();
+
+        for(Map.Entry<String, JwtSigningStrategy> entry : keys.entrySet()) {
+            String keyId = entry.getKey();
+            if(rotatedKeys.containsKey(keyId)) {
+                continue;
+            }
+
+            long retiredAt = retired.getOrDefault(keyId, now);
+            if(now - retiredAt < JwtTokenUtil.JWT_TOKEN_SYSTEM_VALIDITY) {
+                rotatedKeys.put(keyId, entry.getValue());
+                rotatedRetired.put(keyId, retiredAt);
+            }
+        }
+        return new JwtKeyRing(next.activeKeyId, next.defaultKeyId, rotatedKeys, rotatedRetired);
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public String getDefaultKeyId() {
+        return defaultKeyId;
+    }
+
+    /**
+     * Gets the key that signs new tokens.
+     * 
+     * @return {@link JwtSigningStrategy} of the active key.
+     */
+    public JwtSigningStrategy getActive() {
+        return keys.get(activeKeyId);
+    }
+
+    /**
+     * Gets the key for the given key id. A null key id resolves to the default
+     * key.
+     * 
+     * @param keyId The key id from the token header.
+     * @return {@link JwtSigningStrategy} of the key or null if it is not in the
+     *         ring.
+     */
+    public JwtSigningStrategy get(String keyId) {
+        return keys.get(keyId != null ? keyId : defaultKeyId);
+    }
+
+    /**
+     * All key ids in the ring, including retired keys.
+     * 
+     * @return {@link Set} of the key ids.
+     */
+    public Set<String> getKeyIds() {
+        return keys.keySet();
+    }
+
+    /**
+     * Determines if the key is retired and only kept to verify tokens it already
+     * signed.
+     * 
+     * @param keyId The key id to check.
+     * @return boolean if the key is retired.
+     */
+    public boolean isRetired(String keyId) {
+        return retired.containsKey(keyId);
+    }
+}
@@ -0,0 +1,118 @@
+package com.hydro.common.jwt.signing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import com.hydro.common.dictionary.enums.TextEnumCodec;
+
+/**
+ * Loads a {@link JwtKeyRing} from a local properties file so signing keys can
+ * be rotated without a restart. The file has the following keys:
+ * 
+ * <pre>
+ * active=&lt;key id that signs new tokens&gt;
+ * default=&lt;key id for tokens without a kid, optional&gt;
+ * algorithm=&lt;HS512, RS256, ES256 or EDDSA, defaults to HS512&gt;
+ * key.&lt;key id&gt;=&lt;base64 secret for HMAC keys&gt;
+ * public.&lt;key id&gt;=&lt;X.509 public key for asymmetric keys&gt;
+ * private.&lt;key id&gt;=&lt;PKCS#8 private key, only on the issuing service&gt;
+ * </pre>
+ * 
+ * The file is checked for changes at most once every
+ * {@link #CHECK_INTERVAL} millis.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtKeyRingFile {
+    public static final long CHECK_INTERVAL = 30000; // 30 seconds
+
+    private static final String KEY_PREFIX = "key.";
+    private static final String PUBLIC_PREFIX = "public.";
+    private static final String PRIVATE_PREFIX = "private.";
+
+    private final Path path;
+
+    private volatile long nextCheck;
+
+    private volatile long loadedModifiedTime = Long.MIN_VALUE;
+
+    public JwtKeyRingFile(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Determines if the file has changed since it was last loaded. The file system
+     * is only checked once the check interval has passed, any other call returns
+     * false without touching the file.
+     * 
+     * @param now The current time in epoch millis.
+     * @return boolean if the file should be reloaded.
+     */
+    public boolean isModified(long now) {
+        if(now < nextCheck) {
+            return false;
+        }
+        nextCheck = now + CHECK_INTERVAL;
+        return modifiedTime() != loadedModifiedTime;
+    }
+
+    /**
+     * Reads the key ring from the file.
+     * 
+     * @return {@link JwtKeyRing} of the keys in the file.
+     */
+    public JwtKeyRing load() {
+        long modifiedTime = modifiedTime();
+        Properties properties = new Properties();
+        try(Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        catch(IOException e) {
+            throw new IllegalStateException(String.format("Unable to read key ring file '%s': %s", path,
+                                                          e.getMessage()),
+                                            e);
+        }
+
+        String algorithmName = properties.getProperty("algorithm");
+        JwtAlgorithm algorithm = JwtAlgorithm.HS512;
+        if(algorithmName != null) {
+            algorithm = TextEnumCodec.of(JwtAlgorithm.class).valueOf(algorithmName.trim());
+        }
+
+        Map<String, JwtSigningStrategy> keys = new HashMap<>();
+        for(String name : properties.stringPropertyNames()) {
+            String value = properties.getProperty(name).trim();
+            if(algorithm.isHmac() && name.startsWith(KEY_PREFIX)) {
+                keys.put(name.substring(KEY_PREFIX.length()), new HmacSigningStrategy(algorithm, value));
+            }
+            else if(!algorithm.isHmac() && name.startsWith(PUBLIC_PREFIX)) {
+                String keyId = name.substring(PUBLIC_PREFIX.length());
+                keys.put(keyId, JwtSigningStrategies.asymmetric(algorithm, value,
+                                                                properties.getProperty(PRIVATE_PREFIX + keyId)));
+            }
+        }
+
+        JwtKeyRing ring = new JwtKeyRing(properties.getProperty("active"), properties.getProperty("default"), keys);
+        loadedModifiedTime = modifiedTime;
+        return ring;
+    }
+
+    private long modifiedTime() {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        }
+        catch(IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
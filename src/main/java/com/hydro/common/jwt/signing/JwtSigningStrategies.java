@@ -0,0 +1,94 @@
+package com.hydro.common.jwt.signing;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import com.hydro.common.environment.AppEnvironmentService;
+
+/**
+ * Creates the {@link JwtSigningStrategy} configured for the environment.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtSigningStrategies {
+    private JwtSigningStrategies() {}
+
+    /**
+     * Creates the signing strategy for the given environment. If no algorithm is
+     * configured then {@link JwtAlgorithm#HS512} with the signing key is used.
+     * The strategy should be created once and shared, see
+     * {@link JwtCodecService#getJwtCodec()}.
+     * 
+     * @param appEnvironmentService The environment to read the configuration from.
+     * @return {@link JwtSigningStrategy} for the environment.
+     */
+    public static JwtSigningStrategy create(AppEnvironmentService appEnvironmentService) {
+        JwtAlgorithm algorithm = appEnvironmentService.getSigningAlgorithm();
+        if(algorithm != null) {
+            checkAvailable(algorithm);
+        }
+        if(algorithm == null || algorithm.isHmac()) {
+            return new HmacSigningStrategy(algorithm != null ? algorithm : JwtAlgorithm.HS512,
+                                           appEnvironmentService.getSigningKey());
+        }
+
+        return asymmetric(algorithm, appEnvironmentService.getPublicKey(), appEnvironmentService.getPrivateKey());
+    }
+
+    /**
+     * Creates an asymmetric strategy from base64 or PEM encoded keys. The public
+     * key must be X.509 encoded and the private key, if present, PKCS#8 encoded.
+     * The algorithm is checked first, so an algorithm the JDK does not provide
+     * fails with a clear message rather than a {@code NoSuchAlgorithmException}.
+     * 
+     * @param algorithm  The asymmetric algorithm to use.
+     * @param publicKey  The encoded public key.
+     * @param privateKey The encoded private key, may be null for verify only.
+     * @return {@link AsymmetricSigningStrategy} for the keys.
+     */
+    public static AsymmetricSigningStrategy asymmetric(JwtAlgorithm algorithm, String publicKey, String privateKey) {
+        if(publicKey == null) {
+            throw new IllegalStateException(String.format("A public key is required for %s signing",
+                                                          algorithm.getTextId()));
+        }
+        checkAvailable(algorithm);
+
+        try {
+            KeyFactory factory = KeyFactory.getInstance(algorithm.getKeyAlgorithm());
+            PublicKey verifyKey = factory.generatePublic(new X509EncodedKeySpec(decode(publicKey)));
+            PrivateKey signKey = privateKey != null ? factory.generatePrivate(new PKCS8EncodedKeySpec(decode(privateKey)))
+                                                    : null;
+            return new AsymmetricSigningStrategy(algorithm, verifyKey, signKey);
+        }
+        catch(GeneralSecurityException e) {
+            throw new IllegalStateException(String.format("Unable to read %s keys: %s", algorithm.getTextId(),
+                                                          e.getMessage()),
+                                            e);
+        }
+    }
+
+    /**
+     * Checks that the running JDK provides the algorithm.
+     * 
+     * @param algorithm The algorithm to check.
+     * @throws IllegalStateException If the algorithm is not available.
+     */
+    public static void checkAvailable(JwtAlgorithm algorithm) {
+        if(!algorithm.isAvailable()) {
+            String message = "%s signing is not available in JDK %s, it requires JDK %d or later";
+            throw new IllegalStateException(String.format(message, algorithm.getTextId(),
+                                                          System.getProperty("java.version"),
+                                                          algorithm.getMinimumJdk()));
+        }
+    }
+
+    private static byte[] decode(String key) {
+        return Base64.getDecoder().decode(key.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", ""));
+    }
+}
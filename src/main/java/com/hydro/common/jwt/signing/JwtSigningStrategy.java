@@ -0,0 +1,43 @@
+package com.hydro.common.jwt.signing;
+
+/**
+ * Strategy for signing and verifying the signature of a compact jwt.
+ * Implementations must be thread safe.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public interface JwtSigningStrategy {
+
+    /**
+     * The algorithm that the strategy signs and verifies with.
+     * 
+     * @return {@link JwtAlgorithm} of the strategy.
+     */
+    public JwtAlgorithm getAlgorithm();
+
+    /**
+     * Determines if the strategy is able to sign tokens. Services that only hold a
+     * public key can verify but not sign.
+     * 
+     * @return boolean if tokens can be signed.
+     */
+    public boolean canSign();
+
+    /**
+     * Signs the given content.
+     * 
+     * @param content The header and payload of the token.
+     * @return The signature bytes.
+     */
+    public byte[] sign(byte[] content);
+
+    /**
+     * Verifies the signature of the given content.
+     * 
+     * @param content   The header and payload of the token.
+     * @param signature The signature to verify.
+     * @return boolean if the signature is valid.
+     */
+    public boolean verify(byte[] content, byte[] signature);
+}
@@ -0,0 +1,26 @@
+package com.hydro.common.jwt.signing;
+
+/**
+ * Result of the structural check done by {@link JwtCodec#precheck(String, long)}
+ * before any signature work.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public enum JwtTokenStatus {
+    /**
+     * The token is well formed and not expired, its signature still has to be
+     * verified.
+     */
+    VALID,
+
+    /**
+     * The token is not a well formed jwt or compact token.
+     */
+    MALFORMED,
+
+    /**
+     * The token is well formed but has expired.
+     */
+    EXPIRED;
+}
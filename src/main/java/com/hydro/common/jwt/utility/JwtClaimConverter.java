@@ -0,0 +1,132 @@
+package com.hydro.common.jwt.utility;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.dictionary.enums.TextEnum;
+import com.hydro.common.dictionary.enums.TextEnumCodec;
+import com.hydro.common.dictionary.enums.TextEnumModule;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.domain.JwtType;
+
+/**
+ * Converts raw jwt claim values into typed objects. Types that have a
+ * registered converter are converted directly from the claim value, anything
+ * else falls back to a single shared {@link ObjectMapper}. The mapper is also
+ * used to encode token payloads, so it is only handed out as an immutable
+ * {@link ObjectReader} and {@link ObjectWriter} or as a copy.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtClaimConverter {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false).registerModule(new TextEnumModule());
+
+    private static final ObjectReader READER = MAPPER.reader();
+
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    private static final Map<Class<?>, Function<Object, ?>> CONVERTERS = new ConcurrentHashMap<>();
+
+    static {
+        register(PartNumber.class, JwtClaimConverter::toPartNumber);
+        register(WebRole.class, v -> toEnum(WebRole.class, v));
+        register(Environment.class, v -> toEnum(Environment.class, v));
+        register(JwtType.class, v -> toEnum(JwtType.class, v));
+    }
+
+    private JwtClaimConverter() {}
+
+    /**
+     * Registers a converter for the given type. Any existing converter for the
+     * type will be replaced.
+     * 
+     * @param <T>       The type the converter produces.
+     * @param type      The class the converter produces.
+     * @param converter Function to convert a raw claim value into the type.
+     */
+    public static <T> void register(Class<T> type, Function<Object, T> converter) {
+        CONVERTERS.put(type, converter);
+    }
+
+    /**
+     * Converts the raw claim value into the given type. If the value is already of
+     * the type it is returned as is.
+     * 
+     * @param <T>   The type to convert to.
+     * @param value The raw claim value.
+     * @param type  The class to convert the value to.
+     * @return The converted value or null if the value is null.
+     */
+    public static <T> T convert(Object value, Class<T> type) {
+        if(value == null) {
+            return null;
+        }
+        if(type.isInstance(value)) {
+            return type.cast(value);
+        }
+
+        Function<Object, ?> converter = CONVERTERS.get(type);
+        if(converter != null) {
+            return type.cast(converter.apply(value));
+        }
+        return MAPPER.convertValue(value, type);
+    }
+
+    /**
+     * Gets a reader with the configuration of the shared claim mapper.
+     * 
+     * @return {@link ObjectReader} of the shared mapper.
+     */
+    public static ObjectReader getObjectReader() {
+        return READER;
+    }
+
+    /**
+     * Gets a writer with the configuration of the shared claim mapper.
+     * 
+     * @return {@link ObjectWriter} of the shared mapper.
+     */
+    public static ObjectWriter getObjectWriter() {
+        return WRITER;
+    }
+
+    /**
+     * Gets a copy of the shared claim mapper. Changes to the copy do not affect
+     * how claims or tokens are read and written.
+     * 
+     * @return {@link ObjectMapper} copy of the shared mapper.
+     */
+    public static ObjectMapper getObjectMapper() {
+        return MAPPER.copy();
+    }
+
+    private static PartNumber toPartNumber(Object value) {
+        if(value instanceof Map) {
+            Map<?, ?> parts = (Map<?, ?>) value;
+            return new PartNumber(toInt(parts.get("productNumber")),
+                                  convert(parts.get("environment"), Environment.class),
+                                  toInt(parts.get("systemId")));
+        }
+        return new PartNumber(value.toString());
+    }
+
+    private static <E extends Enum<E> & TextEnum> E toEnum(Class<E> type, Object value) {
+        return TextEnumCodec.of(type).valueOf(value.toString());
+    }
+
+    private static int toInt(Object value) {
+        if(value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return Integer.parseInt(value.toString());
+    }
+}
@@ -1,61 +1,89 @@
 package com.hydro.common.jwt.utility;
 
+import java.util.function.Supplier;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hydro.common.dictionary.data.HydroSystem;
-import com.hydro.common.dictionary.data.PartNumber;
 import com.hydro.common.dictionary.data.User;
 import com.hydro.common.dictionary.enums.Environment;
 import com.hydro.common.dictionary.enums.WebRole;
-import com.hydro.common.environment.AppEnvironmentService;
-import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.context.JwtContextHolder;
+import com.hydro.common.jwt.domain.JwtClaimSnapshot;
 import com.hydro.common.jwt.domain.JwtPair;
 import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.signing.JwtCodecService;
 
 import io.jsonwebtoken.Claims;
 
 /**
- * JwtHolder class to store authentication token in a thread local instance to
- * be accessed. Although the JWT is held in a static thread local, the methods
- * are non-static so that JwtHolder can be mocked in tests.
+ * JwtHolder class to store authentication token for the current request to
+ * be accessed. Although the JWT is held in the static {@link JwtContextHolder},
+ * the methods are non-static so that JwtHolder can be mocked in tests. Work
+ * handed to other threads or reactive pipelines can carry the token with the
+ * {@link JwtContextHolder} and {@link com.hydro.common.jwt.context.ReactorJwtContext}.
  * 
  * @author Sam Butler
  * @since August 8, 2020
  */
 @Service
 public class JwtHolder {
-	private static final ThreadLocal<JwtPair> TOKEN = new ThreadLocal<>();
-
 	@Autowired
-	private AppEnvironmentService appEnvironmentService;
+	private JwtCodecService jwtCodecService;
 
 	/**
-	 * Set the token on the current thread local instance.
+	 * Set the token on the current context.
 	 * 
 	 * @param token The token to store.
 	 */
 	public void setToken(String token) {
-		JwtPair pair = new JwtPair(token, appEnvironmentService);
-		TOKEN.set(pair);
+		JwtPair pair = new JwtPair(token, jwtCodecService);
+		JwtContextHolder.set(pair);
 	}
 
 	/**
-	 * Clears the token from the current thread local instance.
+	 * Runs the task with the token bound to the current context. The token is
+	 * verified before the task runs and the previous token is restored when the
+	 * task completes, even if it throws. Prefer this over
+	 * {@link #setToken(String)} and {@link #clearToken()} so a missed clear can
+	 * not leak the token onto a pooled thread.
+	 * 
+	 * @param token The token to bind.
+	 * @param task  The task to run.
+	 */
+	public void runWith(String token, Runnable task) {
+		JwtContextHolder.runWith(new JwtPair(token, jwtCodecService), task);
+	}
+
+	/**
+	 * Calls the supplier with the token bound to the current context and restores
+	 * the previous token when it completes, see {@link #runWith(String, Runnable)}.
+	 * 
+	 * @param <T>      The result type.
+	 * @param token    The token to bind.
+	 * @param supplier The supplier to call.
+	 * @return The result of the supplier.
+	 */
+	public <T> T callWith(String token, Supplier<T> supplier) {
+		return JwtContextHolder.callWith(new JwtPair(token, jwtCodecService), supplier);
+	}
+
+	/**
+	 * Clears the token from the current context.
 	 */
 	public void clearToken() {
-		TOKEN.remove();
+		JwtContextHolder.clear();
 	}
 
 	/**
-	 * Gets the current JwtPair from the thread local instance.
+	 * Gets the current JwtPair from the current context.
 	 * 
-	 * @return {@link JwtPair} of the thread local.
+	 * @return {@link JwtPair} of the current context.
 	 */
 	public JwtPair getPair() {
-		return TOKEN.get();
+		return JwtContextHolder.get();
 	}
 
 	/**
@@ -67,6 +95,15 @@ public class JwtHolder {
 		return getPair().getClaimSet();
 	}
 
+	/**
+	 * Gets the typed claims that were decoded when the token was verified.
+	 * 
+	 * @return {@link JwtClaimSnapshot} object.
+	 */
+	public JwtClaimSnapshot getSnapshot() {
+		return getPair().getSnapshot();
+	}
+
 	/**
 	 * Parse the claims from the given token and for the given key value pair.
 	 * 
@@ -79,14 +116,15 @@ public class JwtHolder {
 
 	/**
 	 * Parse the claims from the given token and for the given key value pair. It
-	 * will then take the passed in class and cast it to that type.
+	 * will then take the passed in class and convert it to that type using the
+	 * {@link JwtClaimConverter}.
 	 * 
 	 * @param key   The key to find.
 	 * @param clazz The class to cast the object as.
 	 * @return The class object of the found key.
 	 */
 	public <T> T parse(String key, Class<T> clazz) {
-		return new ObjectMapper().convertValue(getClaims().get(key), clazz);
+		return JwtClaimConverter.convert(getClaims().get(key), clazz);
 	}
 
 	/**
@@ -96,7 +134,7 @@ public class JwtHolder {
 	 * @return Boolean of the token status.
 	 */
 	public boolean isTokenAvaiable() {
-		JwtPair pair = TOKEN.get();
+		JwtPair pair = JwtContextHolder.get();
 		return pair != null;
 	}
 
@@ -106,7 +144,7 @@ public class JwtHolder {
 	 * @return {@link Environment} object.
 	 */
 	public Environment getEnvironment() {
-		return Environment.valueOf(parse(HydroJwtClaims.ENVIRONMENT).toString());
+		return getSnapshot().getEnvironment();
 	}
 
 	/**
@@ -115,7 +153,7 @@ public class JwtHolder {
 	 * @return {@link JwtType} of the token.
 	 */
 	public JwtType getJwtType() {
-		return JwtType.valueOf(parse(HydroJwtClaims.JWT_TYPE).toString());
+		return getSnapshot().getJwtType();
 	}
 
 	/**
@@ -124,7 +162,7 @@ public class JwtHolder {
 	 * @return int of the userId from the current token
 	 */
 	public int getUserId() {
-		return Integer.parseInt(parse(HydroJwtClaims.USER_ID).toString());
+		return getSnapshot().getUserId();
 	}
 
 	/**
@@ -133,7 +171,7 @@ public class JwtHolder {
 	 * @return String of the email from the current token
 	 */
 	public String getEmail() {
-		return parse(HydroJwtClaims.EMAIL).toString();
+		return getSnapshot().getEmail();
 	}
 
 	/**
@@ -142,7 +180,7 @@ public class JwtHolder {
 	 * @return String of the webRole from the current token
 	 */
 	public WebRole getWebRole() {
-		return WebRole.valueOf(parse(HydroJwtClaims.WEB_ROLE).toString());
+		return getSnapshot().getWebRole();
 	}
 
 	/**
@@ -151,7 +189,7 @@ public class JwtHolder {
 	 * @return int of the userId from the current token
 	 */
 	public boolean getResetPassword() {
-		return Boolean.parseBoolean(parse(HydroJwtClaims.PASSWORD_RESET).toString());
+		return getSnapshot().isPasswordReset();
 	}
 
 	/**
@@ -161,14 +199,15 @@ public class JwtHolder {
 	 * @return {@link User} object.
 	 */
 	public User getUser() {
-		Assert.isTrue(getJwtType().equals(JwtType.WEB), "Jwt is not of type User!");
+		JwtClaimSnapshot snapshot = getSnapshot();
+		Assert.isTrue(snapshot.getJwtType() == JwtType.WEB, "Jwt is not of type User!");
 
 		User currentUser = new User();
-		currentUser.setId(getUserId());
-		currentUser.setEmail(getEmail());
-		currentUser.setWebRole(getWebRole());
-		currentUser.setFirstName(parse(HydroJwtClaims.FIRST_NAME).toString());
-		currentUser.setLastName(parse(HydroJwtClaims.LAST_NAME).toString());
+		currentUser.setId(snapshot.getUserId());
+		currentUser.setEmail(snapshot.getEmail());
+		currentUser.setWebRole(snapshot.getWebRole());
+		currentUser.setFirstName(snapshot.getFirstName());
+		currentUser.setLastName(snapshot.getLastName());
 		return currentUser;
 	}
 
@@ -179,14 +218,15 @@ public class JwtHolder {
 	 * @return {@link HydroSystem} object.
 	 */
 	public HydroSystem getSystem() {
-		Assert.isTrue(getJwtType().equals(JwtType.SYSTEM), "Jwt is not of type Hydro System!");
+		JwtClaimSnapshot snapshot = getSnapshot();
+		Assert.isTrue(snapshot.getJwtType() == JwtType.SYSTEM, "Jwt is not of type Hydro System!");
 
 		HydroSystem currentSystem = new HydroSystem();
-		currentSystem.setId(Integer.parseInt(parse(HydroJwtClaims.ID).toString()));
-		currentSystem.setUuid(parse(HydroJwtClaims.UUID).toString());
-		currentSystem.setPartNumber(parse(HydroJwtClaims.PART_NUMBER, PartNumber.class));
-		currentSystem.setName(parse(HydroJwtClaims.NAME).toString());
-		currentSystem.setOwnerUserId(Integer.parseInt(parse(HydroJwtClaims.OWNER_USER_ID).toString()));
+		currentSystem.setId(snapshot.getId());
+		currentSystem.setUuid(snapshot.getUuid());
+		currentSystem.setPartNumber(snapshot.getPartNumber());
+		currentSystem.setName(snapshot.getName());
+		currentSystem.setOwnerUserId(snapshot.getOwnerUserId());
 		return currentSystem;
 	}
 }
@@ -1,26 +1,44 @@
 package com.hydro.common.jwt.utility;
 
 import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.hydro.common.dictionary.data.HydroSystem;
 import com.hydro.common.dictionary.data.User;
+import com.hydro.common.dictionary.enums.Environment;
 import com.hydro.common.dictionary.enums.WebRole;
 import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.exception.JwtTokenException;
+import com.hydro.common.jwt.cache.JwtClaimsCache;
 import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.domain.JwtTokenGrant;
 import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.domain.JwtValidatedToken;
+import com.hydro.common.jwt.revocation.JwtRevocationList;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtCodecService;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 
 /**
  * Token util to create and manage jwt tokens.
@@ -29,14 +47,44 @@ import io.jsonwebtoken.SignatureAlgorithm;
  * @since July 31, 2021
  */
 @Service
-public class JwtTokenUtil implements Serializable {
+public class JwtTokenUtil implements Serializable, DisposableBean {
 
     public static final long JWT_TOKEN_USER_VALIDITY = 18000000; // 5 hours
-    private static final long JWT_TOKEN_SYSTEM_VALIDITY = 86400000; // 24 hours
+    public static final long JWT_TOKEN_SYSTEM_VALIDITY = 86400000; // 24 hours
+    public static final long JWT_TOKEN_ACCESS_VALIDITY = 1800000; // 30 minutes
+    public static final long JWT_TOKEN_REFRESH_VALIDITY = JWT_TOKEN_SYSTEM_VALIDITY;
+    public static final long JWT_TOKEN_SESSION_VALIDITY = 604800000; // 7 days
+
+    // Expirations are pulled in by up to a tenth of the validity
+    private static final int JWT_TOKEN_JITTER_DIVISOR = 10;
 
     @Autowired
     private AppEnvironmentService appEnvironmentService;
 
+    @Autowired
+    private JwtCodecService jwtCodecService;
+
+    @Autowired(required = false)
+    private Clock clock = Clock.systemDefaultZone();
+
+    private transient volatile ForkJoinPool generationPool;
+
+    private transient volatile boolean destroyed;
+
+    /**
+     * Verifies the token once and returns the result. The result can be passed to
+     * the other accessors so checking the expiration and reading claims does not
+     * verify the token again.
+     * 
+     * @param token - The token to validate
+     * @return {@link JwtValidatedToken} of the verified token
+     */
+    public JwtValidatedToken validate(String token) {
+        return new JwtValidatedToken(token,
+                                     JwtClaimsCache.getInstance().getSnapshot(token, jwtCodecService.getJwtCodec()),
+                                     clock.millis());
+    }
+
     /**
      * Pulls the expiration date from a given token
      * 
@@ -44,8 +92,17 @@ public class JwtTokenUtil implements Serializable {
      * @return A Date object
      */
     public LocalDateTime getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration).toInstant().atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
+        return getExpirationDateFromToken(validate(token));
+    }
+
+    /**
+     * Pulls the expiration date from an already validated token
+     * 
+     * @param token - The validated token being inspected
+     * @return A Date object
+     */
+    public LocalDateTime getExpirationDateFromToken(JwtValidatedToken token) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(token.getExpiration()), clock.getZone());
     }
 
     /**
@@ -62,13 +119,26 @@ public class JwtTokenUtil implements Serializable {
     }
 
     /**
-     * Pulls all the claims off of a given token
+     * Get Specfic claims from an already validated token
+     * 
+     * @param <T>            - Object type
+     * @param token          - Validated token to be inspected
+     * @param claimsResolver - Claims resolver
+     * @return The generic type passed in of the claims
+     */
+    public <T> T getClaimFromToken(JwtValidatedToken token, Function<Claims, T> claimsResolver) {
+        return claimsResolver.apply(token.getClaims());
+    }
+
+    /**
+     * Pulls all the claims off of a given token. Verified tokens are cached until
+     * they expire so repeated calls for the same token skip verification.
      * 
      * @param token - The token to inspect and pull the claims from
      * @return Claims object is returned
      */
     public Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser().setSigningKey(appEnvironmentService.getSigningKey()).parseClaimsJws(token).getBody();
+        return JwtClaimsCache.getInstance().get(token, jwtCodecService.getJwtCodec());
     }
 
     /**
@@ -78,8 +148,17 @@ public class JwtTokenUtil implements Serializable {
      * @return Returns a boolean object of true, false, or null
      */
     public Boolean isTokenExpired(String token) {
-        final LocalDateTime expiration = getExpirationDateFromToken(token);
-        return expiration.isBefore(LocalDateTime.now());
+        return isTokenExpired(validate(token));
+    }
+
+    /**
+     * Checks if the given validated token is expired
+     * 
+     * @param token - The validated token to check
+     * @return Returns a boolean object of true or false
+     */
+    public Boolean isTokenExpired(JwtValidatedToken token) {
+        return token.getExpiration() <= clock.millis();
     }
 
     /**
@@ -103,6 +182,206 @@ public class JwtTokenUtil implements Serializable {
      * @throws Exception
      */
     public String generateToken(User user, boolean reset) {
+        return doGenerateToken(userClaims(user, reset), JWT_TOKEN_USER_VALIDITY);
+    }
+
+    /**
+     * Generate a short lived access token and a refresh token for a user. The
+     * refresh token can be passed to {@link #refreshUserGrant(String, IntFunction)}
+     * for the next grant so the user does not have to log in again. This starts a
+     * new session of {@link #JWT_TOKEN_SESSION_VALIDITY}.
+     * 
+     * @param user User info to be added to the tokens
+     * @return {@link JwtTokenGrant} of the new tokens
+     */
+    public JwtTokenGrant generateTokenGrant(User user) {
+        return doGenerateTokenGrant(userClaims(user, false), JwtType.WEB, newSessionExpiration());
+    }
+
+    /**
+     * Generate a short lived access token and a refresh token for a hydro system.
+     * The refresh token can be passed to
+     * {@link #refreshSystemGrant(String, IntFunction)} for the next grant. This
+     * starts a new session of {@link #JWT_TOKEN_SESSION_VALIDITY}.
+     * 
+     * @param system System info to be added to the tokens
+     * @return {@link JwtTokenGrant} of the new tokens
+     */
+    public JwtTokenGrant generateTokenGrant(HydroSystem system) {
+        return doGenerateTokenGrant(systemClaims(system, appEnvironmentService.getEnvironment()), JwtType.SYSTEM,
+                                    newSessionExpiration());
+    }
+
+    /**
+     * Exchanges a user refresh token for a new grant. The claims are rebuilt from
+     * the user returned by the loader so role and name changes are picked up on
+     * the next refresh, and the grant never outlives the session started by
+     * {@link #generateTokenGrant(User)}.
+     * 
+     * @param refreshToken The refresh token from the previous grant
+     * @param userLoader   Loads the current user for the user id on the token
+     * @return {@link JwtTokenGrant} of the new tokens
+     * @throws JwtTokenException If the token is not a valid user refresh token or
+     *                           the user no longer exists.
+     */
+    public JwtTokenGrant refreshUserGrant(String refreshToken, IntFunction<User> userLoader) {
+        JwtValidatedToken validated = redeemRefreshToken(refreshToken, JwtType.WEB);
+        User user = userLoader.apply(validated.getSnapshot().getUserId());
+        if(user == null) {
+            throw new JwtTokenException("Token user no longer exists.");
+        }
+        return doGenerateTokenGrant(userClaims(user, false), JwtType.WEB, sessionExpirationOf(validated));
+    }
+
+    /**
+     * Exchanges a hydro system refresh token for a new grant. The claims are
+     * rebuilt from the system returned by the loader and the current environment,
+     * and the grant never outlives the session started by
+     * {@link #generateTokenGrant(HydroSystem)}.
+     * 
+     * @param refreshToken The refresh token from the previous grant
+     * @param systemLoader Loads the current system for the system id on the token
+     * @return {@link JwtTokenGrant} of the new tokens
+     * @throws JwtTokenException If the token is not a valid system refresh token
+     *                           or the system no longer exists.
+     */
+    public JwtTokenGrant refreshSystemGrant(String refreshToken, IntFunction<HydroSystem> systemLoader) {
+        JwtValidatedToken validated = redeemRefreshToken(refreshToken, JwtType.SYSTEM);
+        HydroSystem system = systemLoader.apply(validated.getSnapshot().getId());
+        if(system == null) {
+            throw new JwtTokenException("Token system no longer exists.");
+        }
+        return doGenerateTokenGrant(systemClaims(system, appEnvironmentService.getEnvironment()), JwtType.SYSTEM,
+                                    sessionExpirationOf(validated));
+    }
+
+    /**
+     * Checks the refresh token and revokes it. Each refresh token can only be used
+     * once so a stolen refresh token stops working after the next refresh. Used
+     * refresh tokens are tracked in {@link JwtRevocationList} until they expire,
+     * also when the list is reloaded from a revocation source. The single use is
+     * only enforced within this process, used tokens are not written to the
+     * revocation source so another instance of the service, or this one after a
+     * restart, still accepts them until they expire.
+     * 
+     * @param refreshToken The refresh token to redeem
+     * @param type         The type of grant the token must have been issued for
+     * @return {@link JwtValidatedToken} of the redeemed refresh token
+     * @throws JwtTokenException If the token can not be redeemed.
+     */
+    private JwtValidatedToken redeemRefreshToken(String refreshToken, JwtType type) {
+        JwtValidatedToken validated = validate(refreshToken);
+        Claims claims = validated.getClaims();
+        if(validated.getSnapshot().getJwtType() != JwtType.REFRESH) {
+            throw new JwtTokenException("Token is not a refresh token.");
+        }
+        if(JwtClaimConverter.convert(claims.get(HydroJwtClaims.REFRESH_TYPE), JwtType.class) != type) {
+            throw new JwtTokenException(String.format("Refresh token was not issued for a %s grant.", type));
+        }
+        if(validated.isExpired()) {
+            throw new JwtTokenException("Refresh token has expired.");
+        }
+        if(sessionExpirationOf(validated) <= clock.millis()) {
+            throw new JwtTokenException("Session has expired.");
+        }
+        if(!JwtRevocationList.getInstance().revoke(claims.getId(), validated.getExpiration())) {
+            throw new JwtTokenException("Token has been revoked.");
+        }
+        return validated;
+    }
+
+    /**
+     * Reads the absolute session expiration off of a refresh token. Refresh tokens
+     * without one are treated as an expired session.
+     * 
+     * @param token The validated refresh token
+     * @return The session expiration in epoch millis
+     */
+    private long sessionExpirationOf(JwtValidatedToken token) {
+        Object sessionExpiration = token.getClaims().get(HydroJwtClaims.SESSION_EXPIRATION);
+        return sessionExpiration instanceof Number ? ((Number) sessionExpiration).longValue() * 1000 : 0;
+    }
+
+    /**
+     * Generate token for a hydro system.
+     * 
+     * @param system System info to be added to the token
+     * @return String of the new JWT token
+     * @throws Exception
+     */
+    public String generateToken(HydroSystem system) {
+        return doGenerateToken(systemClaims(system, appEnvironmentService.getEnvironment()),
+                               jitter(JWT_TOKEN_SYSTEM_VALIDITY));
+    }
+
+    /**
+     * Generate tokens for a batch of hydro systems. The tokens are signed in
+     * parallel on the token generation pool, see
+     * {@link AppEnvironmentService#getTokenGenerationParallelism()}.
+     * 
+     * @param systems The systems to generate tokens for
+     * @return List of the new JWT tokens in the order of the systems
+     */
+    public List<String> generateTokens(Collection<HydroSystem> systems) {
+        String[] tokens = new String[systems.size()];
+        List<HydroSystem> batch = new ArrayList<>(systems);
+        signTokens(batch, (index, token) -> tokens[index] = token);
+        return Arrays.asList(tokens);
+    }
+
+    /**
+     * Generate tokens for a batch of hydro systems and hand each token to the
+     * consumer as soon as it is signed, so the batch never has to be held in
+     * memory. The consumer is called from the pool threads and must be thread
+     * safe, tokens are not passed in the order of the systems.
+     * 
+     * @param systems  The systems to generate tokens for
+     * @param consumer Called with each system and its new JWT token
+     */
+    public void generateTokens(Collection<HydroSystem> systems, BiConsumer<HydroSystem, String> consumer) {
+        List<HydroSystem> batch = new ArrayList<>(systems);
+        signTokens(batch, (index, token) -> consumer.accept(batch.get(index), token));
+    }
+
+    private void signTokens(List<HydroSystem> systems, BiConsumer<Integer, String> sink) {
+        if(systems.isEmpty()) {
+            return;
+        }
+
+        JwtCodec codec = jwtCodecService.getJwtCodec();
+        Environment environment = appEnvironmentService.getEnvironment();
+        long now = clock.millis();
+        getGenerationPool().invoke(new GenerateTokensTask(0, systems.size(), index -> {
+            Map<String, Object> claims = systemClaims(systems.get(index), environment);
+            claims.put(Claims.ID, UUID.randomUUID().toString());
+            sink.accept(index, codec.encode(claims, now, now + jitter(JWT_TOKEN_SYSTEM_VALIDITY)));
+        }));
+    }
+
+    /**
+     * Generate a compact token for a hydro system. The token holds the same claims
+     * as {@link #generateToken(HydroSystem)} in a binary layout that is a fraction
+     * of the size, for systems that send a token with every reading. Compact
+     * tokens are read by the same methods as standard tokens.
+     * 
+     * @param system System info to be added to the token
+     * @return String of the new compact token
+     */
+    public String generateCompactToken(HydroSystem system) {
+        Map<String, Object> claims = systemClaims(system, appEnvironmentService.getEnvironment());
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        long now = clock.millis();
+        return jwtCodecService.getJwtCodec().encodeCompact(claims, now, now + jitter(JWT_TOKEN_SYSTEM_VALIDITY));
+    }
+
+    /**
+     * Builds the claims for a user token.
+     * 
+     * @param user  User info to be added to the token
+     * @param reset If this is a reset password token.
+     * @return Map of the user claims
+     */
+    private Map<String, Object> userClaims(User user, boolean reset) {
         Map<String, Object> claims = new HashMap<>();
         claims.put(HydroJwtClaims.USER_ID, user.getId());
         claims.put(HydroJwtClaims.FIRST_NAME, user.getFirstName());
@@ -112,41 +391,152 @@ public class JwtTokenUtil implements Serializable {
         claims.put(HydroJwtClaims.ENVIRONMENT, appEnvironmentService.getEnvironment());
         claims.put(HydroJwtClaims.JWT_TYPE, JwtType.WEB);
         claims.put(HydroJwtClaims.PASSWORD_RESET, reset);
-
-        return doGenerateToken(claims, JWT_TOKEN_USER_VALIDITY);
+        return claims;
     }
 
     /**
-     * Generate token for a hydro system.
+     * Builds the claims for a hydro system token.
      * 
-     * @param system System info to be added to the token
-     * @return String of the new JWT token
-     * @throws Exception
+     * @param system      System info to be added to the token
+     * @param environment The environment the token is issued in
+     * @return Map of the system claims
      */
-    public String generateToken(HydroSystem system) {
+    private Map<String, Object> systemClaims(HydroSystem system, Environment environment) {
         Map<String, Object> claims = new HashMap<>();
         claims.put(HydroJwtClaims.ID, system.getId());
         claims.put(HydroJwtClaims.UUID, system.getUuid());
         claims.put(HydroJwtClaims.PART_NUMBER, system.getPartNumber());
         claims.put(HydroJwtClaims.NAME, system.getName());
         claims.put(HydroJwtClaims.OWNER_USER_ID, system.getOwnerUserId());
-        claims.put(HydroJwtClaims.ENVIRONMENT, appEnvironmentService.getEnvironment());
+        claims.put(HydroJwtClaims.ENVIRONMENT, environment);
         claims.put(HydroJwtClaims.WEB_ROLE, WebRole.SYSTEM);
         claims.put(HydroJwtClaims.JWT_TYPE, JwtType.SYSTEM);
-
-        return doGenerateToken(claims, JWT_TOKEN_SYSTEM_VALIDITY);
+        return claims;
     }
 
     /**
-     * Generate a token based on the given Claims and subject
+     * Generate a token based on the given Claims and subject. The token is signed
+     * with the signing strategy configured for the environment and given a unique
+     * id so it can be revoked before it expires.
      * 
      * @param claims  - The claims/fields to be added to the token
      * @param subject - The main subject to be added to the field
      * @return String of the generated JWT token
      */
     private String doGenerateToken(Map<String, Object> claims, long validity) {
-        return Jwts.builder().setClaims(claims).setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + validity))
-                .signWith(SignatureAlgorithm.HS512, appEnvironmentService.getSigningKey()).compact();
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        long now = clock.millis();
+        return jwtCodecService.getJwtCodec().encode(claims, now, now + validity);
+    }
+
+    /**
+     * Signs an access token and a refresh token with the same claims. The refresh
+     * token keeps the type of the access token and the session expiration so the
+     * next grant can be checked against them. Neither token expires after the
+     * session.
+     * 
+     * @param claims            The claims/fields to be added to the tokens
+     * @param type              The type of the access token
+     * @param sessionExpiration The end of the session in epoch millis
+     * @return {@link JwtTokenGrant} of the new tokens
+     */
+    private JwtTokenGrant doGenerateTokenGrant(Map<String, Object> claims, JwtType type, long sessionExpiration) {
+        JwtCodec codec = jwtCodecService.getJwtCodec();
+        long now = clock.millis();
+        // Tokens hold the expiration in seconds, so the grant does as well
+        long accessExpiration = Math.min((now + jitter(JWT_TOKEN_ACCESS_VALIDITY)) / 1000 * 1000, sessionExpiration);
+        long refreshExpiration = Math.min((now + jitter(JWT_TOKEN_REFRESH_VALIDITY)) / 1000 * 1000,
+                                          sessionExpiration);
+
+        claims.put(HydroJwtClaims.JWT_TYPE, type);
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        String accessToken = codec.encode(claims, now, accessExpiration);
+
+        claims.put(HydroJwtClaims.JWT_TYPE, JwtType.REFRESH);
+        claims.put(HydroJwtClaims.REFRESH_TYPE, type);
+        claims.put(HydroJwtClaims.SESSION_EXPIRATION, sessionExpiration / 1000);
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        String refreshToken = codec.encode(claims, now, refreshExpiration);
+        return new JwtTokenGrant(accessToken, refreshToken, accessExpiration, refreshExpiration, sessionExpiration);
+    }
+
+    private long newSessionExpiration() {
+        return (clock.millis() + JWT_TOKEN_SESSION_VALIDITY) / 1000 * 1000;
+    }
+
+    /**
+     * Randomly shortens the validity so tokens issued together, such as a fleet of
+     * systems provisioned at once, do not all expire together.
+     * 
+     * @param validity The full validity of the token in millis
+     * @return The validity shortened by up to a tenth
+     */
+    private long jitter(long validity) {
+        return validity - ThreadLocalRandom.current().nextLong(validity / JWT_TOKEN_JITTER_DIVISOR + 1);
+    }
+
+    /**
+     * Shuts down the token generation pool so its threads do not outlive the
+     * context. Batch generation is rejected once the util is destroyed.
+     */
+    @Override
+    public synchronized void destroy() {
+        destroyed = true;
+        if(generationPool != null) {
+            generationPool.shutdownNow();
+            generationPool = null;
+        }
+    }
+
+    private ForkJoinPool getGenerationPool() {
+        ForkJoinPool pool = generationPool;
+        if(pool == null) {
+            synchronized(this) {
+                if(destroyed) {
+                    throw new IllegalStateException("Token generation pool has been shut down.");
+                }
+                pool = generationPool;
+                if(pool == null) {
+                    int parallelism = appEnvironmentService.getTokenGenerationParallelism();
+                    pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+                    generationPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Splits a range of system indexes until it is small enough to sign serially.
+     */
+    private static class GenerateTokensTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private static final int THRESHOLD = 32;
+
+        private final int from;
+
+        private final int to;
+
+        private final transient IntConsumer generator;
+
+        private GenerateTokensTask(int from, int to, IntConsumer generator) {
+            this.from = from;
+            this.to = to;
+            this.generator = generator;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= THRESHOLD) {
+                for(int i = from; i < to; i++) {
+                    generator.accept(i);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new GenerateTokensTask(from, middle, generator), new GenerateTokensTask(middle, to, generator));
+        }
     }
 }
@@ -1,5 +1,7 @@
 package com.hydro.common.util;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.springframework.util.Assert;
 
 /**
@@ -9,6 +11,8 @@ import org.springframework.util.Assert;
  * @since April 21, 2022
  */
 public class CommonUtil {
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+                                                  100000000L, 1000000000L, 10000000000L };
 
     /**
      * Method that will simply generate a random 8 digit number based on the local
@@ -22,16 +26,17 @@ public class CommonUtil {
 
     /**
      * Method that will simply generate a random number based on the given length
-     * that is desired.
+     * that is desired. The number is drawn from the {@link ThreadLocalRandom} of
+     * the calling thread, so parallel callers do not contend on a shared random.
+     * The numbers are not unique, use an
+     * {@link com.hydro.common.util.id.ProductNumberAllocator} or
+     * {@link com.hydro.common.util.id.SnowflakeIdGenerator} for identifiers.
      * 
      * @param length The length of the random number.
      * @return {@link Long} of the random number.
      */
     public static long generateRandomNumber(int length) {
         Assert.isTrue(length > 0 && length < 11, "Length must be between 0 and 10");
-
-        long numberThreshold = Long.parseLong("9" + "0".repeat(length - 1));
-        long mask = Long.parseLong("1" + "0".repeat(length - 1));
-        return (long) Math.floor(Math.random() * numberThreshold) + mask;
+        return ThreadLocalRandom.current().nextLong(POWERS_OF_TEN[length - 1], POWERS_OF_TEN[length]);
     }
 }
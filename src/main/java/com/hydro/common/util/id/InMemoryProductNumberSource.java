@@ -0,0 +1,32 @@
+package com.hydro.common.util.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In process {@link ProductNumberSource} for a single instance or for testing.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class InMemoryProductNumberSource implements ProductNumberSource {
+    private final AtomicLong next;
+
+    public InMemoryProductNumberSource() {
+        this(0);
+    }
+
+    /**
+     * Creates a source that starts reserving from the given sequence number, such
+     * as the count of product numbers already handed out.
+     * 
+     * @param start The first sequence number to reserve.
+     */
+    public InMemoryProductNumberSource(long start) {
+        this.next = new AtomicLong(start);
+    }
+
+    @Override
+    public long reserve(int count) {
+        return next.getAndAdd(count);
+    }
+}
@@ -0,0 +1,143 @@
+package com.hydro.common.util.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+
+/**
+ * Allocates six-digit product numbers that never repeat. Sequence numbers are
+ * reserved from the {@link ProductNumberSource} in batches and handed out with
+ * a single atomic increment, so the source is only called once per batch.
+ * 
+ * Each sequence number is mapped onto the product numbers 100000 to 999999 by
+ * a fixed permutation, so consecutive numbers are spread over the range rather
+ * than counting up. The permutation only scatters the numbers, it does not make
+ * them unpredictable.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ProductNumberAllocator {
+    public static final int MIN_PRODUCT_NUMBER = 100000;
+    public static final int PRODUCT_NUMBER_COUNT = 900000;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    // Coprime to the product number count, so the mapping is one to one
+    private static final long MULTIPLIER = 7919;
+
+    private static final long OFFSET = 467917;
+
+    private final ProductNumberSource source;
+
+    private final int batchSize;
+
+    private final AtomicReference<Block> block = new AtomicReference<>(new Block(0, 0));
+
+    private final Object reserveLock = new Object();
+
+    public ProductNumberAllocator() {
+        this(new InMemoryProductNumberSource(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an allocator that reserves from the given source.
+     * 
+     * @param source    The source of the sequence numbers.
+     * @param batchSize The number of sequence numbers reserved at once.
+     */
+    public ProductNumberAllocator(ProductNumberSource source, int batchSize) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.source = source;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Allocates the next product number.
+     * 
+     * @return int of the six-digit product number.
+     * @throws IllegalStateException If every product number has been allocated.
+     */
+    public int next() {
+        while(true) {
+            Block current = block.get();
+            long sequence = current.next.getAndIncrement();
+            if(sequence < current.end) {
+                return toProductNumber(sequence);
+            }
+
+            synchronized(reserveLock) {
+                if(block.get() == current) {
+                    block.set(reserve(batchSize));
+                }
+            }
+        }
+    }
+
+    /**
+     * Allocates a block of product numbers at once, such as for a provisioning
+     * run. The block is reserved from the source directly.
+     * 
+     * @param count The number of product numbers to allocate.
+     * @return int array of the six-digit product numbers.
+     * @throws IllegalArgumentException If the count is not positive.
+     * @throws IllegalStateException    If every product number has been allocated.
+     */
+    public int[] next(int count) {
+        if(count < 1) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        Block reserved = reserve(count);
+        int[] productNumbers = new int[count];
+        for(int i = 0; i < count; i++) {
+            productNumbers[i] = toProductNumber(reserved.start + i);
+        }
+        return productNumbers;
+    }
+
+    /**
+     * Allocates a part number with the next product number.
+     * 
+     * @param environment The environment of the system.
+     * @param systemId    The id of the system.
+     * @return {@link PartNumber} with a new product number.
+     */
+    public PartNumber nextPartNumber(Environment environment, int systemId) {
+        return new PartNumber(next(), environment, systemId);
+    }
+
+    /**
+     * Maps a sequence number onto a product number.
+     * 
+     * @param sequence The sequence number, between 0 and 899999.
+     * @return int of the six-digit product number.
+     */
+    static int toProductNumber(long sequence) {
+        if(sequence < 0 || sequence >= PRODUCT_NUMBER_COUNT) {
+            throw new IllegalStateException("All product numbers have been allocated");
+        }
+        return (int) ((sequence * MULTIPLIER + OFFSET) % PRODUCT_NUMBER_COUNT) + MIN_PRODUCT_NUMBER;
+    }
+
+    private Block reserve(int count) {
+        long start = source.reserve(count);
+        return new Block(start, start + count);
+    }
+
+    private static class Block {
+        private final long start;
+
+        private final long end;
+
+        private final AtomicLong next;
+
+        Block(long start, long end) {
+            this.start = start;
+            this.end = end;
+            this.next = new AtomicLong(start);
+        }
+    }
+}
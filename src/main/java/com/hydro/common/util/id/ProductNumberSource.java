@@ -0,0 +1,21 @@
+package com.hydro.common.util.id;
+
+/**
+ * Source of the sequence numbers that the {@link ProductNumberAllocator} turns
+ * into product numbers. Services running more than one instance should back it
+ * with a shared sequence, such as a database sequence, so no two instances
+ * reserve the same numbers.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public interface ProductNumberSource {
+
+    /**
+     * Reserves a block of sequence numbers that have never been reserved before.
+     * 
+     * @param count The number of sequence numbers to reserve.
+     * @return long of the first sequence number of the block.
+     */
+    long reserve(int count);
+}
@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,10 +17,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.dictionary.data.HydroSystem;
 import com.hydro.common.dictionary.enums.WebRole;
 import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.domain.JwtClaimSnapshot;
+import com.hydro.common.jwt.domain.JwtType;
 import com.hydro.common.jwt.utility.JwtHolder;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 /**
  * Test class for the HasAccess Aspect.
  * 
@@ -60,6 +69,93 @@ public class HasAccessAspectTest {
         verify(proceedingJoinPoint, never()).proceed();
     }
 
+    @ParameterizedTest
+    @EnumSource(WebRole.class)
+    public void testHasAccessRoleSet(WebRole role) throws Throwable {
+        HasAccess access = mockMethod("developerOrUser");
+        when(jwtHolder.getWebRole()).thenReturn(role);
+
+        if(role == WebRole.USER || role == WebRole.DEVELOPER) {
+            accessAspcect.access(proceedingJoinPoint, access);
+            verify(proceedingJoinPoint).proceed();
+        }
+        else {
+            assertThrows(InsufficientPermissionsException.class,
+                         () -> accessAspcect.access(proceedingJoinPoint, access), "Role outside of the role set");
+            verify(proceedingJoinPoint, never()).proceed();
+        }
+    }
+
+    @Test
+    public void testHasAccessOwner() throws Throwable {
+        HasAccess access = mockMethod("ownedByUser", int.class);
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+        when(jwtHolder.getSnapshot()).thenReturn(snapshot(JwtType.WEB, 12, 0));
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] {12});
+
+        accessAspcect.access(proceedingJoinPoint, access);
+        verify(proceedingJoinPoint).proceed();
+    }
+
+    @Test
+    public void testHasAccessNotOwner() throws Throwable {
+        HasAccess access = mockMethod("ownedByUser", int.class);
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+        when(jwtHolder.getSnapshot()).thenReturn(snapshot(JwtType.WEB, 12, 0));
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] {13});
+
+        assertThrows(InsufficientPermissionsException.class, () -> accessAspcect.access(proceedingJoinPoint, access),
+                     "User does not own the data");
+        verify(proceedingJoinPoint, never()).proceed();
+    }
+
+    @Test
+    public void testHasAccessOwnerBypass() throws Throwable {
+        HasAccess access = mockMethod("ownedByUser", int.class);
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.ADMIN);
+
+        accessAspcect.access(proceedingJoinPoint, access);
+        verify(proceedingJoinPoint).proceed();
+        verify(jwtHolder, never()).getSnapshot();
+    }
+
+    @Test
+    public void testHasAccessSystemOwner() throws Throwable {
+        HasAccess access = mockMethod("ownedSystem", HydroSystem.class);
+        HydroSystem system = new HydroSystem();
+        system.setOwnerUserId(12);
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.SYSTEM);
+        when(jwtHolder.getSnapshot()).thenReturn(snapshot(JwtType.SYSTEM, 0, 12));
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[] {system});
+
+        accessAspcect.access(proceedingJoinPoint, access);
+        verify(proceedingJoinPoint).proceed();
+    }
+
+    @Test
+    public void testResolveUnknownOwner() throws Exception {
+        Method method = AccessTarget.class.getDeclaredMethod("unknownOwner", int.class);
+        assertThrows(IllegalStateException.class,
+                     () -> AccessDecision.resolve(method.getAnnotation(HasAccess.class), method),
+                     "Owner parameter does not exist");
+    }
+
+    private HasAccess mockMethod(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        Method method = AccessTarget.class.getDeclaredMethod(name, parameterTypes);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        return method.getAnnotation(HasAccess.class);
+    }
+
+    private JwtClaimSnapshot snapshot(JwtType type, int userId, int ownerUserId) {
+        Claims claims = Jwts.claims();
+        claims.put(HydroJwtClaims.JWT_TYPE, type.toString());
+        claims.put(HydroJwtClaims.USER_ID, userId);
+        claims.put(HydroJwtClaims.OWNER_USER_ID, ownerUserId);
+        return JwtClaimSnapshot.of(claims);
+    }
+
     private HasAccess getHasAccessAnnotationInstance(WebRole role) {
         return new HasAccess() {
             @Override
@@ -67,10 +163,39 @@ public class HasAccessAspectTest {
                 return role;
             }
 
+            @Override
+            public WebRole[] roles() {
+                return new WebRole[0];
+            }
+
+            @Override
+            public String owner() {
+                return "";
+            }
+
+            @Override
+            public WebRole ownerBypass() {
+                return WebRole.ADMIN;
+            }
+
             @Override
             public Class<? extends Annotation> annotationType() {
                 return HasAccess.class;
             }
         };
     }
+
+    private static class AccessTarget {
+        @HasAccess(roles = {WebRole.USER, WebRole.DEVELOPER})
+        void developerOrUser() {}
+
+        @HasAccess(owner = "userId")
+        void ownedByUser(int userId) {}
+
+        @HasAccess(value = WebRole.SYSTEM, owner = "system")
+        void ownedSystem(HydroSystem system) {}
+
+        @HasAccess(owner = "missing")
+        void unknownOwner(int userId) {}
+    }
 }
@@ -0,0 +1,189 @@
+package com.hydro.common.annotations.interceptors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.hydro.common.annotations.aspects.AccessDecisionRegistry;
+import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.domain.JwtClaimSnapshot;
+import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.utility.JwtHolder;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Test class for the HasAccess Interceptor.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class HasAccessInterceptorTest {
+
+    @Mock
+    private JwtHolder jwtHolder;
+
+    private HasAccessInterceptor interceptor;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    public void setup() {
+        AccessDecisionRegistry registry = new AccessDecisionRegistry("interceptor");
+        registry.postProcessAfterInitialization(new AccessController(), "accessController");
+        interceptor = new HasAccessInterceptor(jwtHolder, registry);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    public void testPreHandleUnguarded() throws Exception {
+        assertTrue(interceptor.preHandle(request, response, handler("unguarded")), "Unguarded handler");
+        assertTrue(interceptor.preHandle(request, response, new Object()), "Not a handler method");
+        verifyNoInteractions(jwtHolder);
+    }
+
+    @Test
+    public void testPreHandleAccess() throws Exception {
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.ADMIN);
+        assertTrue(interceptor.preHandle(request, response, handler("admin")), "Admin has access");
+    }
+
+    @Test
+    public void testPreHandleInsufficientPermissions() throws Exception {
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+        assertThrows(InsufficientPermissionsException.class,
+                     () -> interceptor.preHandle(request, response, handler("admin")), "User has no access");
+    }
+
+    @Test
+    public void testPreHandleOwnerPathVariable() throws Exception {
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+        when(jwtHolder.getSnapshot()).thenReturn(snapshot(12));
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("userId", "12"));
+
+        assertTrue(interceptor.preHandle(request, response, handler("owned", int.class)), "Owner has access");
+    }
+
+    @Test
+    public void testPreHandleOwnerPathVariableName() throws Exception {
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+        when(jwtHolder.getSnapshot()).thenReturn(snapshot(12));
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "12"));
+        request.setParameter("userId", "12");
+
+        assertTrue(interceptor.preHandle(request, response, handler("ownedById", int.class)),
+                   "Owner is read from the bound path variable");
+    }
+
+    @Test
+    public void testPreHandleOwnerParameter() throws Exception {
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+        when(jwtHolder.getSnapshot()).thenReturn(snapshot(12));
+        request.setParameter("user", "13");
+
+        assertThrows(InsufficientPermissionsException.class,
+                     () -> interceptor.preHandle(request, response, handler("ownedByParameter", int.class)),
+                     "User does not own the data");
+    }
+
+    @Test
+    public void testPreHandleOwnerParameterName() throws Exception {
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+        when(jwtHolder.getSnapshot()).thenReturn(snapshot(12));
+        request.setParameter("user", "12");
+
+        assertTrue(interceptor.preHandle(request, response, handler("ownedByParameter", int.class)),
+                   "Owner is read from the bound request parameter");
+    }
+
+    @Test
+    public void testInterceptorModeRejectsBodyOwner() {
+        AccessDecisionRegistry registry = new AccessDecisionRegistry("interceptor");
+
+        assertThrows(IllegalStateException.class,
+                     () -> registry.postProcessAfterInitialization(new BodyOwnerController(), "bodyOwnerController"),
+                     "Body owner can not be checked by the interceptor");
+    }
+
+    @Test
+    public void testInterceptorModeRejectsNonHandlerBean() {
+        AccessDecisionRegistry registry = new AccessDecisionRegistry("interceptor");
+
+        assertThrows(IllegalStateException.class,
+                     () -> registry.postProcessAfterInitialization(new AccessService(), "accessService"),
+                     "HasAccess outside a controller is not checked by the interceptor");
+        assertNotNull(new AccessDecisionRegistry().postProcessAfterInitialization(new AccessService(), "service"),
+                      "Aspect mode checks any bean");
+    }
+
+    @Test
+    public void testPreHandleMissingOwner() throws Exception {
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.USER);
+
+        assertThrows(InsufficientPermissionsException.class,
+                     () -> interceptor.preHandle(request, response, handler("owned", int.class)), "Owner is missing");
+    }
+
+    private HandlerMethod handler(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new HandlerMethod(new AccessController(), AccessController.class.getMethod(name, parameterTypes));
+    }
+
+    private JwtClaimSnapshot snapshot(int userId) {
+        Claims claims = Jwts.claims();
+        claims.put(HydroJwtClaims.JWT_TYPE, JwtType.WEB.toString());
+        claims.put(HydroJwtClaims.USER_ID, userId);
+        return JwtClaimSnapshot.of(claims);
+    }
+
+    @RestController
+    public static class AccessController {
+        public void unguarded() {}
+
+        @HasAccess(WebRole.ADMIN)
+        public void admin() {}
+
+        @HasAccess(owner = "userId")
+        public void owned(@PathVariable int userId) {}
+
+        @HasAccess(owner = "userId")
+        public void ownedById(@PathVariable("id") int userId) {}
+
+        @HasAccess(owner = "userId")
+        public void ownedByParameter(@RequestParam(name = "user") int userId) {}
+    }
+
+    @RestController
+    public static class BodyOwnerController {
+        @HasAccess(owner = "system")
+        public void owned(@RequestBody HydroSystem system) {}
+    }
+
+    public static class AccessService {
+        @HasAccess(WebRole.ADMIN)
+        public void admin() {}
+    }
+}
@@ -37,4 +37,34 @@ public class DateTimeMapperTest {
         LocalDateTime testDate = LocalDateTime.of(2012, 2, 12, 10, 22, 15);
         assertEquals("2012-02-12 10:22:15", DateTimeMapper.printDate(testDate));
     }
+
+    @Test
+    public void testPrintDateTimezone() {
+        Date testDate = new Date(1665000000000L);
+        assertEquals("2022-10-05 15:00:00",
+                     DateTimeMapper.printDate(testDate, "yyyy-MM-dd HH:mm:ss", "America/Chicago"));
+        assertEquals("10/05/2022 15:00 CDT",
+                     DateTimeMapper.printDate(testDate, "MM/dd/yyyy HH:mm z", "America/Chicago"));
+        assertEquals("2022-10-05 20:00:00", DateTimeMapper.printDate(testDate, "yyyy-MM-dd HH:mm:ss", "Unknown/Zone"));
+    }
+
+    @Test
+    public void testPrintDateDefaultFormatPadding() {
+        LocalDateTime testDate = LocalDateTime.of(987, 1, 2, 3, 4, 5);
+        assertEquals("0987-01-02 03:04:05", DateTimeMapper.printDate(testDate));
+        assertEquals("1970-01-01 00:00:00.042", DateTimeMapper.printDate(new Date(42), "yyyy-MM-dd HH:mm:ss.SSS"));
+    }
+
+    @Test
+    public void testPrintDateSimpleDateFormatLetters() {
+        Date testDate = new Date(1665000000042L);
+        assertEquals("3", DateTimeMapper.printDate(testDate, "u"), "Day number of week");
+        assertEquals("1", DateTimeMapper.printDate(testDate, "F"), "Day of week in month");
+        assertEquals("20:00:00.42", DateTimeMapper.printDate(testDate, "HH:mm:ss.S"), "Unpadded millis");
+        assertEquals("000042", DateTimeMapper.printDate(testDate, "SSSSSS"), "Padded millis");
+        assertEquals("2022-10-05 20:00:00.042", DateTimeMapper.printDate(testDate, "yyyy-MM-dd HH:mm:ss.SSS"),
+                     "Millis");
+        assertEquals("Oct 5, 2022 3:00 PM",
+                     DateTimeMapper.printDate(testDate, "MMM d, yyyy h:mm a", "America/Chicago"), "Text fields");
+    }
 }
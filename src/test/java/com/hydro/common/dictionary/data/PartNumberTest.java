@@ -0,0 +1,88 @@
+package com.hydro.common.dictionary.data;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.jwt.utility.JwtClaimConverter;
+
+/**
+ * Test class for the Part Number.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class PartNumberTest {
+
+    @Test
+    public void testParse() {
+        PartNumber partNumber = new PartNumber("012345P000042");
+
+        assertEquals(12345, partNumber.getProductNumber(), "Product Number");
+        assertEquals(Environment.PRODUCTION, partNumber.getEnvironment(), "Environment");
+        assertEquals(42, partNumber.getSystemId(), "System Id");
+        assertEquals("012345P000042", partNumber.build(), "Part Number");
+    }
+
+    @Test
+    public void testParseInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new PartNumber(null), "Null part number");
+        assertThrows(IllegalArgumentException.class, () -> new PartNumber("111111D22222"), "Too short");
+        assertThrows(IllegalArgumentException.class, () -> new PartNumber("111111D2222222"), "Too long");
+        assertThrows(IllegalArgumentException.class, () -> new PartNumber("111111T222222"), "Unknown environment");
+        assertThrows(IllegalArgumentException.class, () -> new PartNumber("11a111D222222"), "Product not a number");
+        assertThrows(IllegalArgumentException.class, () -> new PartNumber("111111D22222/"), "System not a number");
+    }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(new PartNumber("111111D222222"), PartNumber.tryParse("111111D222222"), "Valid part number");
+        assertNull(PartNumber.tryParse("111111T222222"), "Unknown environment");
+        assertNull(PartNumber.tryParse("bad"), "Too short");
+        assertNull(PartNumber.tryParse(null), "Null part number");
+    }
+
+    @Test
+    public void testBuildFromParts() {
+        assertEquals("000001L000002", new PartNumber(1, Environment.LOCAL, 2).toString(), "Part Number");
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        PartNumber parsed = new PartNumber("111111D222222");
+        PartNumber built = new PartNumber(111111, Environment.DEVELOPMENT, 222222);
+
+        assertEquals(parsed, built, "Same part number");
+        assertEquals(parsed.hashCode(), built.hashCode(), "Same hash code");
+        assertNotEquals(parsed, new PartNumber("111111P222222"), "Different environment");
+        assertNotEquals(parsed, "111111D222222", "Not a part number");
+    }
+
+    @Test
+    public void testLongRoundTrip() {
+        PartNumber partNumber = new PartNumber("999999D999999");
+
+        assertEquals(partNumber, PartNumber.fromLong(partNumber.toLong()), "Part Number");
+        assertEquals(new PartNumber("111111D222222").toLong(), new PartNumber("111111D222222").toLong(), "Packed");
+    }
+
+    @Test
+    public void testToLongWithoutEnvironment() {
+        assertThrows(IllegalStateException.class, () -> new PartNumber(111111, null, 222222).toLong(),
+                     "No environment to pack");
+    }
+
+    @Test
+    public void testFromLongInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> PartNumber.fromLong(0xFFL << 20), "Unknown environment");
+        assertThrows(IllegalArgumentException.class, () -> PartNumber.fromLong(1000000L << 28), "Product too large");
+        assertThrows(IllegalArgumentException.class, () -> PartNumber.fromLong(1000000L), "System too large");
+    }
+
+    @Test
+    public void testJsonShape() throws Exception {
+        String json = JwtClaimConverter.getObjectMapper().writeValueAsString(new PartNumber("111111D222222"));
+        assertEquals("{\"productNumber\":111111,\"environment\":\"DEVELOPMENT\",\"systemId\":222222}", json, "Json");
+    }
+}
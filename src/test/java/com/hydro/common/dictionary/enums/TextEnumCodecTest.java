@@ -0,0 +1,78 @@
+package com.hydro.common.dictionary.enums;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.signing.JwtAlgorithm;
+import com.hydro.common.jwt.utility.JwtClaimConverter;
+
+/**
+ * Test class for the Text Enum Codec.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class TextEnumCodecTest {
+
+    @Test
+    public void testDecodeTextIdAndName() {
+        TextEnumCodec<Environment> codec = TextEnumCodec.of(Environment.class);
+
+        assertEquals(Environment.PRODUCTION, codec.decode("P"), "Text id");
+        assertEquals(Environment.PRODUCTION, codec.decode("p"), "Lower case text id");
+        assertEquals(Environment.PRODUCTION, codec.decode("PRODUCTION"), "Name");
+        assertEquals(Environment.PRODUCTION, codec.decode("Production"), "Mixed case name");
+        assertEquals(JwtType.WEB, TextEnumCodec.of(JwtType.class).decode("web_jwt"), "Jwt type text id");
+        assertEquals(JwtAlgorithm.EDDSA, TextEnumCodec.of(JwtAlgorithm.class).decode("EdDSA"), "Algorithm text id");
+    }
+
+    @Test
+    public void testDecodeUnknown() {
+        TextEnumCodec<WebRole> codec = TextEnumCodec.of(WebRole.class);
+
+        assertNull(codec.decode("OWNER"), "Unknown text");
+        assertNull(codec.decode(""), "Empty text");
+        assertNull(codec.decode(null), "Null text");
+        assertEquals(WebRole.USER, codec.decode("OWNER", WebRole.USER), "Default value");
+        assertThrows(IllegalArgumentException.class, () -> codec.valueOf("OWNER"), "Unknown text");
+    }
+
+    @Test
+    public void testEnvironmentGet() {
+        assertEquals(Environment.DEVELOPMENT, Environment.get("d"), "Text id");
+        assertEquals(Environment.TEST, Environment.get("TEST"), "Name");
+        assertEquals(Environment.LOCAL, Environment.get("X"), "Unknown defaults to local");
+    }
+
+    @Test
+    public void testForClassNotTextEnum() {
+        assertThrows(IllegalArgumentException.class, () -> TextEnumCodec.forClass(String.class), "Not an enum");
+    }
+
+    @Test
+    public void testJacksonModule() throws Exception {
+        ObjectMapper mapper = JwtClaimConverter.getObjectMapper();
+
+        assertEquals(WebRole.ADMIN, mapper.readValue("\"admin\"", WebRole.class), "Lower case name");
+        assertEquals(JwtType.SYSTEM, mapper.readValue("\"SYSTEM_JWT\"", JwtType.class), "Text id");
+        assertEquals(Environment.TEST, mapper.readValue("2", Environment.class), "Ordinal");
+        assertEquals("\"DEVELOPMENT\"", mapper.writeValueAsString(Environment.DEVELOPMENT), "Written by name");
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"OWNER\"", WebRole.class),
+                     "Unknown text");
+    }
+
+    @Test
+    public void testConverter() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        conversionService.addConverter(new TextEnumConverter());
+
+        assertEquals(WebRole.DEVELOPER, conversionService.convert("developer", WebRole.class), "Name");
+        assertEquals(Environment.LOCAL, conversionService.convert("L", Environment.class), "Text id");
+        assertNull(conversionService.convert(" ", WebRole.class), "Blank value");
+    }
+}
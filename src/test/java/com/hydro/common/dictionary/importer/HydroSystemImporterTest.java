@@ -0,0 +1,116 @@
+package com.hydro.common.dictionary.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+
+/**
+ * Test class for the Hydro System Importer.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class HydroSystemImporterTest {
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void testImportFile() throws Exception {
+        Path file = write("partNumber,uuid,name,ownerUserId\r\n"
+                          + "111111D000001,71d9ec65-265b-3388-a6e4-654128d05678, Tomatoes ,12\r\n"
+                          + "# comment\n"
+                          + "\n"
+                          + "111111P000002\n"
+                          + "111111X000003,uuid\n"
+                          + "111111D000004,uuid,name,owner\n"
+                          + ",uuid\n"
+                          + "111111L000005,,Basil");
+        List<HydroSystem> systems = new ArrayList<>();
+
+        ImportResult result = new HydroSystemImporter(2, 1, 10).importFile(file, systems::addAll);
+
+        assertEquals(9, result.getLineCount(), "Line count");
+        assertEquals(3, result.getSystemCount(), "System count");
+        assertEquals(3, result.getErrorCount(), "Error count");
+        assertEquals(3, systems.size(), "Systems");
+
+        HydroSystem system = systems.get(0);
+        assertEquals(new PartNumber("111111D000001"), system.getPartNumber(), "Part Number");
+        assertEquals("71d9ec65-265b-3388-a6e4-654128d05678", system.getUuid(), "Uuid");
+        assertEquals("Tomatoes", system.getName(), "Name");
+        assertEquals(12, system.getOwnerUserId(), "Owner");
+        assertNull(systems.get(1).getUuid(), "Missing uuid");
+        assertNull(systems.get(2).getUuid(), "Empty uuid");
+        assertEquals("Basil", systems.get(2).getName(), "Name without newline");
+
+        assertEquals(6, result.getErrors().get(0).getLineNumber(), "Bad part number line");
+        assertEquals("Part Number \"111111X000003\" is incorrectly formatted", result.getErrors().get(0).getMessage(),
+                     "Bad part number message");
+        assertEquals(7, result.getErrors().get(1).getLineNumber(), "Bad owner line");
+        assertEquals(8, result.getErrors().get(2).getLineNumber(), "Missing part number line");
+    }
+
+    @Test
+    public void testImportLongLine() throws Exception {
+        Path file = write("111111D000001," + "x".repeat(HydroSystemImporter.MAX_LINE_LENGTH) + "\n111111D000002\n");
+        List<HydroSystem> systems = new ArrayList<>();
+
+        ImportResult result = new HydroSystemImporter().importFile(file, systems::addAll);
+
+        assertEquals(1, systems.size(), "Systems");
+        assertEquals(1, result.getErrors().get(0).getLineNumber(), "Long line");
+        assertEquals("Line is longer than 4096 bytes", result.getErrors().get(0).getMessage(), "Long line message");
+    }
+
+    @Test
+    public void testImportEmptyFile() throws Exception {
+        ImportResult result = new HydroSystemImporter().importFile(write(""), batch -> fail("No batches"));
+
+        assertEquals(0, result.getLineCount(), "Line count");
+        assertFalse(result.hasErrors(), "No errors");
+    }
+
+    @Test
+    public void testImportFileInParallelChunks() throws Exception {
+        Path file = directory.resolve("systems.csv");
+        int lines = 200000;
+        try(BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for(int i = 1; i <= lines; i++) {
+                String partNumber = i % 1000 == 0 ? "bad"
+                        : new PartNumber(i, Environment.PRODUCTION, i).build();
+                writer.write(partNumber + ",uuid-" + i + ",name " + i + "," + i + "\n");
+            }
+        }
+        List<HydroSystem> systems = new ArrayList<>();
+
+        ImportResult result = new HydroSystemImporter(500, 4, 5).importFile(file, systems::addAll);
+
+        assertEquals(lines, result.getLineCount(), "Line count");
+        assertEquals(lines - lines / 1000, result.getSystemCount(), "System count");
+        assertEquals(lines - lines / 1000, systems.size(), "Systems");
+        assertEquals(lines / 1000, result.getErrorCount(), "Error count");
+        assertEquals(5, result.getErrors().size(), "Errors kept");
+        for(int i = 0; i < 5; i++) {
+            assertEquals(1000L * (i + 1), result.getErrors().get(i).getLineNumber(), "Error line " + i);
+        }
+        assertEquals(lines, systems.stream().mapToInt(HydroSystem::getOwnerUserId).distinct().count() + lines / 1000,
+                     "Every line read once");
+    }
+
+    private Path write(String content) throws Exception {
+        return Files.write(directory.resolve("import.csv"), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
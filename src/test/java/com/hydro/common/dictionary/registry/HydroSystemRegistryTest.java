@@ -0,0 +1,146 @@
+package com.hydro.common.dictionary.registry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.factory.data.HydroSystemFactoryData;
+
+/**
+ * Test class for the Hydro System Registry.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class HydroSystemRegistryTest {
+    private static final String UUID_TEXT = "71d9ec65-265b-3388-a6e4-654128d05678";
+
+    private HydroSystemRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new HydroSystemRegistry(8);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        HydroSystem system = system(1, 222222, UUID_TEXT);
+        assertNull(registry.put(system), "Nothing replaced");
+
+        assertSame(system, registry.getById(1), "By id");
+        assertSame(system, registry.getByPartNumber(new PartNumber("111111D222222")), "By part number");
+        assertSame(system, registry.getByPartNumber(system.getPartNumber().toLong()), "By packed part number");
+        assertSame(system, registry.getByUuid(UUID_TEXT), "By uuid");
+        assertSame(system, registry.getByUuid(UUID_TEXT.toUpperCase()), "By upper case uuid");
+        assertSame(system, registry.getByUuid(UUID.fromString(UUID_TEXT)), "By UUID");
+        assertEquals(1, registry.size(), "Size");
+    }
+
+    @Test
+    public void testGetMissing() {
+        registry.put(system(1, 222222, UUID_TEXT));
+
+        assertNull(registry.getById(2), "By id");
+        assertNull(registry.getByPartNumber(new PartNumber("111111P222222")), "By part number");
+        assertNull(registry.getByPartNumber((PartNumber) null), "Null part number");
+        assertNull(registry.getByUuid("71d9ec65-265b-3388-a6e4-654128d05679"), "By uuid");
+        assertNull(registry.getByUuid("not-a-uuid"), "Invalid uuid");
+        assertNull(registry.getByUuid((String) null), "Null uuid");
+    }
+
+    @Test
+    public void testPutReplacesKeys() {
+        HydroSystem original = system(1, 222222, UUID_TEXT);
+        HydroSystem replacement = system(1, 333333, null);
+        registry.put(original);
+
+        assertSame(original, registry.put(replacement), "Replaced system");
+        assertSame(replacement, registry.getById(1), "By id");
+        assertSame(replacement, registry.getByPartNumber(new PartNumber("111111D333333")), "New part number");
+        assertNull(registry.getByPartNumber(new PartNumber("111111D222222")), "Old part number");
+        assertNull(registry.getByUuid(UUID_TEXT), "Old uuid");
+        assertEquals(1, registry.size(), "Size");
+    }
+
+    @Test
+    public void testRemove() {
+        HydroSystem system = system(1, 222222, UUID_TEXT);
+        registry.put(system);
+
+        assertSame(system, registry.remove(1), "Removed system");
+        assertNull(registry.remove(1), "Already removed");
+        assertNull(registry.getById(1), "By id");
+        assertNull(registry.getByPartNumber(system.getPartNumber()), "By part number");
+        assertNull(registry.getByUuid(UUID_TEXT), "By uuid");
+        assertEquals(0, registry.size(), "Size");
+
+        registry.put(system);
+        assertSame(system, registry.getById(1), "Added back");
+    }
+
+    @Test
+    public void testPutRejectsKeysOfOtherSystem() {
+        HydroSystem original = system(1, 222222, UUID_TEXT);
+        registry.put(original);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.put(system(2, 222222, null)),
+                     "Part number of other system");
+        assertThrows(IllegalArgumentException.class, () -> registry.put(system(2, 333333, UUID_TEXT)),
+                     "Uuid of other system");
+        assertNull(registry.getById(2), "Conflicting system not added");
+        assertNull(registry.remove(2), "Conflicting system not registered");
+
+        assertSame(original, registry.getById(1), "By id");
+        assertSame(original, registry.getByPartNumber(original.getPartNumber()), "By part number");
+        assertSame(original, registry.getByUuid(UUID_TEXT), "By uuid");
+        assertNull(registry.getByPartNumber(new PartNumber("111111D333333")), "Part number of rejected system");
+        assertEquals(1, registry.size(), "Size");
+    }
+
+    @Test
+    public void testInvalidUuidNotIndexed() {
+        HydroSystem system = HydroSystemFactoryData.hydroSystem();
+        registry.put(system);
+
+        assertSame(system, registry.getById(system.getId()), "By id");
+        assertNull(registry.getByUuid(system.getUuid()), "Uuid is not hex");
+    }
+
+    @Test
+    public void testGrow() {
+        List<HydroSystem> systems = new ArrayList<>();
+        for(int i = 0; i < 5000; i++) {
+            systems.add(system(i, i, new UUID(i, -i).toString()));
+        }
+        registry.putAll(systems);
+        for(int i = 0; i < 5000; i += 2) {
+            registry.remove(i);
+        }
+
+        assertEquals(2500, registry.size(), "Size");
+        for(int i = 0; i < 5000; i++) {
+            HydroSystem expected = i % 2 == 0 ? null : systems.get(i);
+            assertSame(expected, registry.getById(i), "By id " + i);
+            assertSame(expected, registry.getByPartNumber(new PartNumber(111111, Environment.DEVELOPMENT, i)),
+                       "By part number " + i);
+            assertSame(expected, registry.getByUuid(new UUID(i, -i)), "By uuid " + i);
+        }
+        assertTrue(registry.getIndexBytes() > 0, "Index bytes");
+    }
+
+    private HydroSystem system(int id, int systemNumber, String uuid) {
+        HydroSystem system = new HydroSystem();
+        system.setId(id);
+        system.setUuid(uuid);
+        system.setPartNumber(new PartNumber(111111, Environment.DEVELOPMENT, systemNumber));
+        return system;
+    }
+}
@@ -0,0 +1,181 @@
+package com.hydro.common.exception.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.exception.BaseException;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.common.exception.JwtTokenException;
+import com.hydro.common.exception.NotFoundException;
+import com.hydro.common.exception.domain.ExceptionError;
+import com.hydro.common.exception.telemetry.ErrorEvent;
+import com.hydro.common.exception.telemetry.ErrorMetric;
+import com.hydro.common.exception.telemetry.ErrorTelemetry;
+
+/**
+ * Test class for the Hydro Exception Handler Controller.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class HydroExceptionHandlerControllerTest {
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private final HydroExceptionHandlerController controller = new HydroExceptionHandlerController();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/12");
+
+    @Test
+    public void testClientErrorBodyIsCached() throws Exception {
+        InsufficientPermissionsException ex = new InsufficientPermissionsException(WebRole.USER);
+        ResponseEntity<byte[]> first = controller.handleInsufficientPermissionsException(ex, request);
+        ResponseEntity<byte[]> second = controller.handleInsufficientPermissionsException(ex, request);
+
+        assertSame(first.getHeaders(), second.getHeaders(), "Cached response headers");
+        assertEquals(HttpStatus.FORBIDDEN, first.getStatusCode(), "Status");
+        assertEquals(MediaType.APPLICATION_JSON, first.getHeaders().getContentType(), "Content Type");
+        ExceptionError error = MAPPER.readValue(first.getBody(), ExceptionError.class);
+        assertEquals("Insufficient Permissions for role 'USER'", error.getMessage(), "Message");
+        assertEquals(403, error.getStatus(), "Body Status");
+        assertEquals("/api/users/12", error.getPath(), "Body Path");
+        assertEquals("Forbidden", error.getError(), "Body Error");
+        assertEquals(2, controller.getForbiddenCount(), "Forbidden count");
+    }
+
+    @Test
+    public void testClientErrorCounts() {
+        controller.handleJwtTokenException(new JwtTokenException("Token has been revoked."), request);
+        controller.handleNotFoundException(new NotFoundException("User", 12), request);
+
+        assertEquals(1, controller.getUnauthorizedCount(), "Unauthorized count");
+        assertEquals(1, controller.getNotFoundCount(), "Not found count");
+        assertEquals(0, controller.getForbiddenCount(), "Forbidden count");
+    }
+
+    @Test
+    public void testErrorResponseCacheEvictsLeastRecentlyUsed() {
+        ErrorResponseCache cache = new ErrorResponseCache(MAPPER, 2);
+        cache.get(HttpStatus.BAD_REQUEST, "User not found for id: '1'");
+        cache.get(HttpStatus.BAD_REQUEST, "User not found for id: '2'");
+        cache.get(HttpStatus.BAD_REQUEST, "User not found for id: '1'");
+        cache.get(HttpStatus.BAD_REQUEST, "User not found for id: '3'");
+
+        assertEquals(2, cache.size(), "Cache size is bounded");
+        for(int i = 4; i < 100; i++) {
+            cache.get(HttpStatus.BAD_REQUEST, "User not found for id: '" + i + "'");
+        }
+        assertEquals(2, cache.size(), "New messages still evict old ones");
+    }
+
+    @Test
+    public void testCachedErrorDoesNotFormatMessage() throws Exception {
+        ErrorResponseCache cache = new ErrorResponseCache(MAPPER);
+        cache.get(HttpStatus.BAD_REQUEST, new NotFoundException("User", 12), "/api/users/12");
+        NotFoundException ex = new NotFoundException("User", 12);
+
+        ResponseEntity<byte[]> response = cache.get(HttpStatus.BAD_REQUEST, ex, "/api/users/12");
+
+        Field message = BaseException.class.getDeclaredField("message");
+        message.setAccessible(true);
+        assertNull(message.get(ex), "Message not formatted");
+        assertEquals("User not found for id: '12'",
+                     MAPPER.readValue(response.getBody(), ExceptionError.class).getMessage(), "Message");
+        assertEquals(1, cache.size(), "Equal messages share a body");
+    }
+
+    @Test
+    public void testErrorResponseTimestampAndPath() throws Exception {
+        ErrorResponseCache cache = new ErrorResponseCache(MAPPER);
+        long before = System.currentTimeMillis();
+        ResponseEntity<byte[]> response = cache.get(HttpStatus.UNAUTHORIZED, "Bad token", "/api/\"quoted\"");
+        ExceptionError error = MAPPER.readValue(response.getBody(), ExceptionError.class);
+
+        assertEquals("/api/\"quoted\"", error.getPath(), "Escaped path");
+        assertEquals("Bad token", error.getMessage(), "Message");
+        assertEquals(401, error.getStatus(), "Body Status");
+        assertNotNull(error.getTimestamp(), "Timestamp is kept");
+        assertTrue(error.getTimestamp().getTime() >= before / 1000 * 1000, "Timestamp is the time of the request");
+        assertNull(MAPPER.readValue(cache.get(HttpStatus.UNAUTHORIZED, "Bad token").getBody(), ExceptionError.class)
+                .getPath(), "Body without a path");
+        assertEquals(1, cache.size(), "Cache size");
+    }
+
+    @Test
+    public void testErrorResponseUsesApplicationMapper() throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        ErrorResponseCache cache = new ErrorResponseCache(mapper);
+
+        JsonNode body = mapper.readTree(cache.get(HttpStatus.FORBIDDEN, "No access", "/api").getBody());
+
+        assertTrue(body.get("timestamp").isTextual(), "Timestamp written with the date format of the mapper");
+        assertEquals("No access", body.get("message").asText(), "Message");
+        assertEquals("/api", body.get("path").asText(), "Path");
+    }
+
+    @Test
+    public void testErrorTelemetry() {
+        ErrorTelemetry telemetry = new ErrorTelemetry(2);
+        ReflectionTestUtils.setField(controller, "errorTelemetry", telemetry);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users/{id}");
+
+        controller.handleJwtTokenException(new JwtTokenException("first"), request);
+        controller.handleJwtTokenException(new JwtTokenException("second"), request);
+        controller.handleException(new IllegalStateException("third"), request);
+
+        List<ErrorMetric> metrics = telemetry.getMetrics();
+        assertEquals(2, metrics.size(), "Metric count");
+        ErrorMetric unauthorized = metrics.stream().filter(m -> m.getStatus() == 401).findFirst().get();
+        assertEquals("JwtTokenException", unauthorized.getException(), "Exception");
+        assertEquals("/api/users/{id}", unauthorized.getPath(), "Path template");
+        assertEquals(2, unauthorized.getCount(), "Error count");
+
+        List<ErrorEvent> recent = telemetry.getRecent();
+        assertEquals(2, recent.size(), "Recent size");
+        assertEquals("third", recent.get(0).getMessage(), "Newest error");
+        assertEquals("second", recent.get(1).getMessage(), "Oldest kept error");
+        assertEquals("/api/users/12", recent.get(0).getPath(), "Error path");
+    }
+
+    @Test
+    public void testErrorLogSampler() {
+        Logger logger = mock(Logger.class);
+        ErrorLogSampler sampler = new ErrorLogSampler(logger, HttpStatus.UNAUTHORIZED, 1000);
+        JwtTokenException ex = new JwtTokenException("Token has expired.");
+
+        assertTrue(sampler.record(ex, 5000), "First error logged");
+        assertFalse(sampler.record(ex, 5500), "Error in interval not logged");
+        assertFalse(sampler.record(ex, 5999), "Error in interval not logged");
+        assertTrue(sampler.record(ex, 6000), "Error in next interval logged");
+
+        assertEquals(4, sampler.getCount(), "Error count");
+        verify(logger).warn(anyString(), eq(401), eq("JwtTokenException"), eq("Token has expired."), eq(0L));
+        verify(logger).warn(anyString(), eq(401), eq("JwtTokenException"), eq("Token has expired."), eq(2L));
+    }
+
+    @Test
+    public void testLazyExceptionMessage() {
+        NotFoundException ex = new NotFoundException("User", 12);
+
+        assertEquals("User not found for id: '12'", ex.getMessage(), "Message");
+        assertSame(ex.getMessage(), ex.getMessage(), "Message formatted once");
+    }
+}
@@ -0,0 +1,157 @@
+package com.hydro.common.jwt.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hydro.common.jwt.signing.HmacSigningStrategy;
+import com.hydro.common.jwt.signing.JwtAlgorithm;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtKeyRing;
+import com.hydro.common.jwt.signing.JwtSigningStrategy;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+/**
+ * Test class for the Jwt Claims Cache.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtClaimsCacheTest {
+    private static final String SIGNING_KEY = "test-local-key";
+
+    private JwtClaimsCache cache;
+
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    public void setup() {
+        cache = new JwtClaimsCache(2);
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    public void testGetCachesVerifiedToken() {
+        String token = token(1, 60000);
+
+        Claims first = cache.get(token, SIGNING_KEY, verifier(SIGNING_KEY));
+        Claims second = cache.get(token, SIGNING_KEY, verifier(SIGNING_KEY));
+
+        assertSame(first, second, "Claims should be served from the cache");
+        assertEquals(1, verifications.get(), "Verification count");
+        assertEquals(1, cache.getHitCount(), "Hit count");
+        assertEquals(1, cache.getMissCount(), "Miss count");
+    }
+
+    @Test
+    public void testGetExpiredTokenIsNotCached() {
+        String token = token(1, -60000);
+
+        cache.get(token, SIGNING_KEY, verifier(SIGNING_KEY));
+        cache.get(token, SIGNING_KEY, verifier(SIGNING_KEY));
+
+        assertEquals(2, verifications.get(), "Verification count");
+        assertEquals(0, cache.size(), "Cache size");
+    }
+
+    @Test
+    public void testGetDifferentSigningKeyReverifies() {
+        String token = token(1, 60000);
+
+        cache.get(token, SIGNING_KEY, verifier(SIGNING_KEY));
+        assertThrows(SignatureException.class, () -> cache.get(token, "other-key", verifier("other-key")));
+
+        assertEquals(2, verifications.get(), "Verification count");
+        assertEquals(1, cache.getEvictionCount(), "Eviction count");
+    }
+
+    @Test
+    public void testGetCodecRebuiltWithSameKeyKeepsCachedToken() {
+        JwtCodec codec = new JwtCodec(keyRing("first", SIGNING_KEY, "second", "other-key"));
+        long now = System.currentTimeMillis();
+        String token = codec.encode(Map.of("userId", 1), now, now + 60000);
+
+        cache.get(token, codec);
+        cache.get(token, new JwtCodec(keyRing("second", "other-key", "first", SIGNING_KEY)));
+
+        assertEquals(1, cache.getHitCount(), "Hit count");
+        assertEquals(1, cache.getMissCount(), "Miss count");
+    }
+
+    @Test
+    public void testGetCodecWithChangedKeyReverifies() {
+        JwtCodec codec = new JwtCodec(keyRing("first", SIGNING_KEY, "second", "other-key"));
+        long now = System.currentTimeMillis();
+        String token = codec.encode(Map.of("userId", 1), now, now + 60000);
+
+        cache.get(token, codec);
+        JwtCodec changed = new JwtCodec(keyRing("first", "changed-key", "second", "other-key"));
+
+        assertThrows(SignatureException.class, () -> cache.get(token, changed));
+        assertEquals(0, cache.getHitCount(), "Hit count");
+        assertEquals(1, cache.getEvictionCount(), "Eviction count");
+    }
+
+    @Test
+    public void testGetEvictsWhenFull() {
+        for(int i = 0; i < 5; i++) {
+            cache.get(token(i, 60000), SIGNING_KEY, verifier(SIGNING_KEY));
+        }
+
+        assertTrue(cache.size() <= 2, "Cache size should be bounded");
+        assertEquals(5 - cache.size(), cache.getEvictionCount(), "Eviction count");
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        String token = token(1, 60000);
+        cache.get(token, SIGNING_KEY, verifier(SIGNING_KEY));
+
+        cache.invalidateAll();
+        cache.get(token, SIGNING_KEY, verifier(SIGNING_KEY));
+
+        assertEquals(2, verifications.get(), "Verification count");
+        assertEquals(0, cache.getHitCount(), "Hit count");
+    }
+
+    @Test
+    public void testGetClaimsAreReadOnly() {
+        Claims claims = cache.get(token(1, 60000), SIGNING_KEY, verifier(SIGNING_KEY));
+        assertThrows(UnsupportedOperationException.class, () -> claims.put("userId", 2));
+    }
+
+    private Function<String, Claims> verifier(String key) {
+        return t -> {
+            verifications.incrementAndGet();
+            return Jwts.parser().setSigningKey(key).parseClaimsJws(t).getBody();
+        };
+    }
+
+    private String token(int userId, long validity) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        return Jwts.builder().setClaims(claims).setExpiration(new Date(System.currentTimeMillis() + validity))
+                .signWith(SignatureAlgorithm.HS512, SIGNING_KEY).compact();
+    }
+
+    private JwtKeyRing keyRing(String activeKeyId, String activeKey, String otherKeyId, String otherKey) {
+        Map<String, JwtSigningStrategy> keys = new HashMap<>();
+        keys.put(activeKeyId, new HmacSigningStrategy(JwtAlgorithm.HS512, activeKey));
+        keys.put(otherKeyId, new HmacSigningStrategy(JwtAlgorithm.HS512, otherKey));
+        return new JwtKeyRing(activeKeyId, null, keys);
+    }
+}
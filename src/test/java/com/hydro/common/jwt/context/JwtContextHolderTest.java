@@ -0,0 +1,126 @@
+package com.hydro.common.jwt.context;
+
+import static com.hydro.common.factory.data.HydroSystemFactoryData.*;
+import static com.hydro.common.factory.data.UserFactoryData.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.jwt.domain.JwtPair;
+import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.signing.HmacSigningStrategy;
+import com.hydro.common.jwt.signing.JwtAlgorithm;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtCodecService;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.common.jwt.utility.JwtTokenUtil;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Test class for the Jwt Context Holder.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class JwtContextHolderTest {
+
+    @Mock
+    private AppEnvironmentService appEnvironmentService;
+
+    @Mock
+    private JwtCodecService jwtCodecService;
+
+    @InjectMocks
+    private JwtHolder jwtHolder;
+
+    @InjectMocks
+    private JwtTokenUtil tokenUtil;
+
+    private JwtPair userPair;
+
+    private JwtPair systemPair;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        when(jwtCodecService.getJwtCodec())
+                .thenReturn(new JwtCodec(new HmacSigningStrategy(JwtAlgorithm.HS512, "test-local")));
+        userPair = new JwtPair(tokenUtil.generateToken(userData()), jwtCodecService);
+        systemPair = new JwtPair(tokenUtil.generateToken(hydroSystem()), jwtCodecService);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        JwtContextHolder.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRunWithRestoresPreviousPair() {
+        JwtContextHolder.set(userPair);
+
+        JwtContextHolder.runWith(systemPair, () -> assertEquals(JwtType.SYSTEM, jwtHolder.getJwtType(), "Jwt Type"));
+
+        assertSame(userPair, JwtContextHolder.get(), "Previous pair should be restored");
+    }
+
+    @Test
+    public void testCallWithClearsPairOnException() {
+        assertThrows(IllegalStateException.class, () -> JwtContextHolder.callWith(systemPair, () -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        assertFalse(jwtHolder.isTokenAvaiable(), "Pair should be cleared");
+    }
+
+    @Test
+    public void testWrapExecutorPropagatesPair() throws Exception {
+        JwtContextHolder.set(userPair);
+
+        int userId = CompletableFuture
+                .supplyAsync(() -> jwtHolder.getUserId(), JwtContextHolder.wrap(executor))
+                .get();
+
+        assertEquals(12, userId, "User Id");
+        assertFalse(executor.submit(() -> jwtHolder.isTokenAvaiable()).get(), "Pooled thread should be cleared");
+    }
+
+    @Test
+    public void testWrapSupplierCapturesPairAtCreation() throws Exception {
+        JwtContextHolder.set(userPair);
+        CompletableFuture<Integer> future = CompletableFuture
+                .supplyAsync(JwtContextHolder.wrapSupplier(() -> jwtHolder.getUserId()), executor);
+        JwtContextHolder.clear();
+
+        assertEquals(12, future.get(), "User Id");
+    }
+
+    @Test
+    public void testReactorContextBindsJwtHolder() {
+        Integer id = ReactorJwtContext.fromCallable(() -> jwtHolder.getSystem().getId())
+                .subscribeOn(Schedulers.boundedElastic()).contextWrite(ReactorJwtContext.withPair(systemPair))
+                .block();
+
+        assertEquals(1, id, "System Id");
+        assertSame(systemPair, ReactorJwtContext.getPair().contextWrite(ReactorJwtContext.withPair(systemPair))
+                .block(), "Context pair");
+        assertNull(Mono.from(ReactorJwtContext.getPair()).block(), "Empty context");
+    }
+}
@@ -0,0 +1,161 @@
+package com.hydro.common.jwt.filter;
+
+import static com.hydro.common.factory.data.UserFactoryData.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.exception.controller.ErrorResponseCache;
+import com.hydro.common.jwt.signing.HmacSigningStrategy;
+import com.hydro.common.jwt.signing.JwtAlgorithm;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtCodecService;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * Test class for the Jwt Holder Filter.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@ExtendWith(MockitoExtension.class)
+public class JwtHolderFilterTest {
+
+    @Mock
+    private AppEnvironmentService appEnvironmentService;
+
+    @Mock
+    private JwtCodecService jwtCodecService;
+
+    @InjectMocks
+    private JwtHolder jwtHolder;
+
+    @InjectMocks
+    private JwtTokenUtil tokenUtil;
+
+    private JwtHolderFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        filter = new JwtHolderFilter(jwtCodecService, new ErrorResponseCache());
+    }
+
+    @Test
+    public void testFilterBindsTokenForRequest() throws Exception {
+        stubCodec();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + tokenUtil.generateToken(userData()));
+        AtomicInteger userId = new AtomicInteger();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> userId.set(jwtHolder.getUserId()));
+
+        assertEquals(12, userId.get(), "User Id");
+        assertFalse(jwtHolder.isTokenAvaiable(), "Token should be cleared after the request");
+    }
+
+    @Test
+    public void testFilterClearsTokenWhenRequestFails() {
+        stubCodec();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + tokenUtil.generateToken(userData()));
+
+        FilterChain chain = (req, res) -> {
+            throw new IllegalStateException("failed");
+        };
+
+        assertThrows(IllegalStateException.class,
+                     () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+        assertFalse(jwtHolder.isTokenAvaiable(), "Token should be cleared after the request");
+    }
+
+    @Test
+    public void testFilterRejectsMalformedTokenWithoutVerifying() throws Exception {
+        MockHttpServletResponse response = filterWithToken("not.a.token");
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus(), "Status");
+        assertTrue(response.getContentAsString().contains("Token is malformed."), "Body");
+        verify(jwtCodecService, never()).getJwtCodec();
+    }
+
+    @Test
+    public void testFilterRejectsExpiredTokenWithoutVerifying() throws Exception {
+        JwtCodec codec = new JwtCodec(new HmacSigningStrategy(JwtAlgorithm.HS512, "test-local"));
+        MockHttpServletResponse response = filterWithToken(codec.encode(Map.of("userId", 12), 0, 1000));
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus(), "Status");
+        assertTrue(response.getContentAsString().contains("Token has expired."), "Body");
+        verify(jwtCodecService, never()).getJwtCodec();
+    }
+
+    @Test
+    public void testFilterRejectsTokenWithInvalidSignature() throws Exception {
+        stubCodec();
+        long now = System.currentTimeMillis();
+        String token = new JwtCodec(new HmacSigningStrategy(JwtAlgorithm.HS512, "other-key"))
+                .encode(Map.of("userId", 12), now, now + 60000);
+
+        MockHttpServletResponse response = filterWithToken(token);
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus(), "Status");
+        assertTrue(response.getContentAsString().contains("Token could not be verified."), "Body");
+    }
+
+    @Test
+    public void testFilterWithoutToken() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "Chain should be called");
+        verify(jwtCodecService, never()).getJwtCodec();
+    }
+
+    @Test
+    public void testFilterIsOptIn() {
+        WebApplicationContextRunner runner = new WebApplicationContextRunner()
+                .withBean(AppEnvironmentService.class, () -> appEnvironmentService)
+                .withBean(JwtCodecService.class, () -> jwtCodecService)
+                .withBean(ErrorResponseCache.class, ErrorResponseCache::new)
+                .withUserConfiguration(JwtHolderFilter.class);
+
+        runner.run(context -> assertTrue(context.getBeansOfType(JwtHolderFilter.class).isEmpty(),
+                                         "Filter should not be registered by default"));
+        runner.withPropertyValues("security.jwt-filter.enabled=true")
+                .run(context -> assertNotNull(context.getBean(JwtHolderFilter.class), "Enabled filter"));
+    }
+
+    private MockHttpServletResponse filterWithToken(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertNull(chain.getRequest(), "Chain should not be called");
+        return response;
+    }
+
+    private void stubCodec() {
+        when(jwtCodecService.getJwtCodec())
+                .thenReturn(new JwtCodec(new HmacSigningStrategy(JwtAlgorithm.HS512, "test-local")));
+    }
+}
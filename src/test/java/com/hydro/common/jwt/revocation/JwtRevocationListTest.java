@@ -0,0 +1,153 @@
+package com.hydro.common.jwt.revocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for the Jwt Revocation List.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtRevocationListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testIsRevoked() {
+        JwtRevocationList list = new JwtRevocationList(100, 0.01);
+        list.revoke("revoked-id", Long.MAX_VALUE);
+
+        assertTrue(list.isRevoked("revoked-id"), "Revoked token");
+        assertFalse(list.isRevoked("other-id"), "Token that was not revoked");
+        assertFalse(list.isRevoked(null), "Token without an id");
+    }
+
+    @Test
+    public void testRevokeGrowsFilterPastCapacity() {
+        JwtRevocationList list = new JwtRevocationList(10, 0.01);
+        for(int i = 0; i < 100; i++) {
+            list.revoke("id-" + i, Long.MAX_VALUE);
+        }
+
+        assertEquals(100, list.size(), "Size");
+        for(int i = 0; i < 100; i++) {
+            assertTrue(list.isRevoked("id-" + i), "Revoked token " + i);
+        }
+    }
+
+    @Test
+    public void testRevokeDropsExpiredTokensWhenFilterIsRebuilt() {
+        JwtRevocationList list = new JwtRevocationList(10, 0.01);
+        for(int i = 0; i < 1000; i++) {
+            assertTrue(list.revoke("refresh-" + i, i * 10L + 5, i * 10L), "Token revoked");
+        }
+
+        assertTrue(list.size() <= 20, "Expired tokens are dropped when the filter is rebuilt");
+        assertTrue(list.isRevoked("refresh-999"), "Latest token is revoked");
+        assertFalse(list.isRevoked("refresh-0"), "Expired token is dropped");
+    }
+
+    @Test
+    public void testReplaceAllDropsExpiredTokens() {
+        JwtRevocationList list = new JwtRevocationList(100, 0.01);
+        list.replaceAll(Collections.singletonMap("old-id", Long.MAX_VALUE), 1000);
+
+        Map<String, Long> revocations = new HashMap<>();
+        revocations.put("live-id", 2000L);
+        revocations.put("expired-id", 1000L);
+        list.replaceAll(revocations, 1000);
+
+        assertTrue(list.isRevoked("live-id"), "Live token");
+        assertFalse(list.isRevoked("expired-id"), "Expired token");
+        assertFalse(list.isRevoked("old-id"), "Replaced token");
+
+        list.purgeExpired(2000);
+        assertEquals(0, list.size(), "Size after purge");
+    }
+
+    @Test
+    public void testReplaceAllKeepsTokensRevokedInProcess() {
+        JwtRevocationList list = new JwtRevocationList(100, 0.01);
+        list.revoke("used-refresh-id", 3000L);
+        list.revoke("expired-refresh-id", 1500L);
+
+        list.replaceAll(Collections.singletonMap("file-id", 3000L), 1000);
+        assertTrue(list.isRevoked("used-refresh-id"), "Token revoked in process");
+        assertTrue(list.isRevoked("file-id"), "Token from the source");
+
+        list.replaceAll(Collections.emptyMap(), 2000);
+        assertTrue(list.isRevoked("used-refresh-id"), "Token revoked in process after reload");
+        assertFalse(list.isRevoked("expired-refresh-id"), "Expired token revoked in process");
+        assertFalse(list.isRevoked("file-id"), "Token removed from the source");
+        assertFalse(list.revoke("used-refresh-id", 3000L), "Token should already be revoked");
+    }
+
+    @Test
+    public void testClearRemovesEveryToken() {
+        JwtRevocationList list = new JwtRevocationList(100, 0.01);
+        list.revoke("used-refresh-id", Long.MAX_VALUE);
+
+        list.clear();
+        list.replaceAll(Collections.emptyMap(), 0);
+
+        assertFalse(list.isRevoked("used-refresh-id"), "Cleared token");
+        assertEquals(0, list.size(), "Size");
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        JwtRevocationList list = new JwtRevocationList(10000, 0.01);
+        for(int i = 0; i < 10000; i++) {
+            list.revoke(UUID.randomUUID().toString(), Long.MAX_VALUE);
+        }
+        for(int i = 0; i < 100000; i++) {
+            assertFalse(list.isRevoked(UUID.randomUUID().toString()), "Token that was not revoked");
+        }
+
+        assertEquals(100000, list.getCheckCount(), "Check count");
+        assertTrue(list.getExpectedFalsePositiveRate() < 0.01, "Expected false positive rate");
+        assertTrue(list.getFalsePositiveRate() < 0.02, "Observed false positive rate " + list.getFalsePositiveRate());
+    }
+
+    @Test
+    public void testRefreshFromInMemorySource() {
+        JwtRevocationList list = new JwtRevocationList(100, 0.01);
+        InMemoryRevocationSource source = new InMemoryRevocationSource();
+        source.revoke("revoked-id", Long.MAX_VALUE);
+
+        assertTrue(list.refresh(source, 0), "Modified source should be loaded");
+        assertFalse(list.refresh(source, 0), "Unchanged source should not be loaded");
+        assertTrue(list.isRevoked("revoked-id"), "Revoked token");
+
+        source.restore("revoked-id");
+        list.refresh(source, 0);
+        assertFalse(list.isRevoked("revoked-id"), "Restored token");
+    }
+
+    @Test
+    public void testRefreshFromFileSource() throws IOException {
+        Path path = Files.write(tempDir.resolve("revoked.txt"),
+                                "# revoked tokens\nrevoked-id 2000\n\nforever-id\n".getBytes());
+        JwtRevocationList list = new JwtRevocationList(100, 0.01);
+        FileRevocationSource source = new FileRevocationSource(path);
+
+        assertTrue(list.refresh(source, 1000), "Modified source should be loaded");
+        assertFalse(source.isModified(), "Loaded file should not be modified");
+        assertTrue(list.isRevoked("revoked-id"), "Revoked token");
+        assertTrue(list.isRevoked("forever-id"), "Token without an expiration");
+    }
+}
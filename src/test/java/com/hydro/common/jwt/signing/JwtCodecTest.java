@@ -0,0 +1,228 @@
+package com.hydro.common.jwt.signing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.exception.JwtTokenException;
+import com.hydro.common.jwt.domain.HydroJwtClaims;
+import com.hydro.common.jwt.domain.JwtType;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+
+/**
+ * Test class for the Jwt Codec.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtCodecTest {
+    private static final String SIGNING_KEY = "test-local-key";
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    public void testAlgorithmAvailableFromMinimumJdk(JwtAlgorithm algorithm) {
+        assertEquals(Runtime.version().feature() >= algorithm.getMinimumJdk(), algorithm.isAvailable(),
+                     algorithm.getTextId() + " availability");
+    }
+
+    @Test
+    public void testEncodeHmacIsReadableByJjwt() {
+        String token = hmacCodec().encode(claims(), 0, 180000000);
+
+        Claims claims = Jwts.parser().setSigningKey(SIGNING_KEY).parseClaimsJws(token).getBody();
+        assertEquals(12, claims.get("userId"), "User Id");
+        assertEquals(180000, claims.getExpiration().getTime() / 1000, "Expiration");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JwtAlgorithm.class, names = {"HS512"}, mode = EnumSource.Mode.EXCLUDE)
+    public void testEncodeDecodeAsymmetric(JwtAlgorithm algorithm) throws Exception {
+        assumeTrue(algorithm.isAvailable(), algorithm.getJcaName() + " is not supported by this JDK");
+        KeyPair pair = keyPair(algorithm);
+        AsymmetricSigningStrategy signer = strategy(algorithm, pair, true);
+        AsymmetricSigningStrategy verifier = strategy(algorithm, pair, false);
+
+        String token = new JwtCodec(signer).encode(claims(), 0, 180000000);
+        Claims claims = new JwtCodec(verifier).decode(token);
+
+        assertEquals(12, claims.get("userId"), "User Id");
+        assertFalse(verifier.canSign(), "Verify only strategy should not sign");
+    }
+
+    @Test
+    public void testEncodeVerifyOnlyException() throws Exception {
+        AsymmetricSigningStrategy verifier = strategy(JwtAlgorithm.ES256, keyPair(JwtAlgorithm.ES256), false);
+
+        assertThrows(JwtTokenException.class, () -> new JwtCodec(verifier).encode(claims(), 0, 180000000));
+    }
+
+    @Test
+    public void testDecodeAlgorithmMismatchException() throws Exception {
+        String token = hmacCodec().encode(claims(), 0, 180000000);
+        AsymmetricSigningStrategy verifier = strategy(JwtAlgorithm.ES256, keyPair(JwtAlgorithm.ES256), false);
+
+        assertThrows(SignatureException.class, () -> new JwtCodec(verifier).decode(token));
+    }
+
+    @Test
+    public void testDecodeTamperedTokenException() {
+        JwtCodec codec = hmacCodec();
+        String[] parts = codec.encode(claims(), 0, 180000000).split("\\.");
+        String forged = codec.encode(Map.of("userId", 1), 0, 180000000).split("\\.")[1];
+
+        assertThrows(SignatureException.class, () -> codec.decode(parts[0] + "." + forged + "." + parts[2]));
+    }
+
+    @Test
+    public void testDecodeUnsignedTokenException() {
+        String token = Jwts.builder().setClaims(claims()).compact();
+
+        assertThrows(UnsupportedJwtException.class, () -> hmacCodec().decode(token));
+    }
+
+    @Test
+    public void testDecodeJjwtTokenWithDifferentHeader() {
+        String token = Jwts.builder().setHeaderParam("typ", "JWT").setClaims(claims())
+                .signWith(SignatureAlgorithm.HS512, SIGNING_KEY).compact();
+
+        assertEquals(12, hmacCodec().decode(token).get("userId"), "User Id");
+    }
+
+    @Test
+    public void testEncodeDecodeCompact() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(Claims.ID, "0f8fad5b-d9cb-469f-a165-70867728950e");
+        claims.put(HydroJwtClaims.ID, 1);
+        claims.put(HydroJwtClaims.UUID, "not-a-uuid");
+        claims.put(HydroJwtClaims.PART_NUMBER, new PartNumber("111111D222222"));
+        claims.put(HydroJwtClaims.OWNER_USER_ID, -2);
+        claims.put(HydroJwtClaims.ENVIRONMENT, Environment.DEVELOPMENT);
+        claims.put(HydroJwtClaims.JWT_TYPE, JwtType.SYSTEM);
+
+        String token = hmacCodec().encodeCompact(claims, 0, 180000000);
+        Claims decoded = hmacCodec().decode(token);
+
+        assertEquals(1, token.chars().filter(c -> c == '.').count(), "Period count");
+        assertEquals("0f8fad5b-d9cb-469f-a165-70867728950e", decoded.getId(), "Token Id");
+        assertEquals(1, decoded.get(HydroJwtClaims.ID), "Id");
+        assertEquals("not-a-uuid", decoded.get(HydroJwtClaims.UUID), "UUID");
+        assertEquals(new PartNumber("111111D222222"), decoded.get(HydroJwtClaims.PART_NUMBER), "Part Number");
+        assertEquals(-2, decoded.get(HydroJwtClaims.OWNER_USER_ID), "Owner User Id");
+        assertEquals(Environment.DEVELOPMENT, decoded.get(HydroJwtClaims.ENVIRONMENT), "Environment");
+        assertEquals(JwtType.SYSTEM, decoded.get(HydroJwtClaims.JWT_TYPE), "Jwt Type");
+        assertEquals(180000, decoded.getExpiration().getTime() / 1000, "Expiration");
+    }
+
+    @Test
+    public void testDecodeTamperedCompactTokenException() {
+        JwtCodec codec = hmacCodec();
+        String[] parts = codec.encodeCompact(Map.of(HydroJwtClaims.ID, 1), 0, 180000000).split("\\.");
+        String forged = codec.encodeCompact(Map.of(HydroJwtClaims.ID, 2), 0, 180000000).split("\\.")[0];
+
+        assertThrows(SignatureException.class, () -> codec.decode(forged + "." + parts[1]));
+    }
+
+    @Test
+    public void testEncodeCompactUnsupportedClaimException() {
+        assertThrows(IllegalArgumentException.class, () -> hmacCodec().encodeCompact(claims(), 0, 180000000));
+    }
+
+    @Test
+    public void testPrecheck() {
+        JwtCodec codec = hmacCodec();
+
+        assertEquals(JwtTokenStatus.VALID, JwtCodec.precheck(codec.encode(claims(), 0, 2000), 1000), "Valid");
+        assertEquals(JwtTokenStatus.EXPIRED, JwtCodec.precheck(codec.encode(claims(), 0, 1000), 1000), "Expired");
+        assertEquals(JwtTokenStatus.VALID,
+                     JwtCodec.precheck(codec.encodeCompact(Map.of(HydroJwtClaims.ID, 1), 0, 2000), 1000),
+                     "Valid compact");
+        assertEquals(JwtTokenStatus.EXPIRED,
+                     JwtCodec.precheck(codec.encodeCompact(Map.of(HydroJwtClaims.ID, 1), 0, 1000), 1000),
+                     "Expired compact");
+    }
+
+    @Test
+    public void testPrecheckMalformed() {
+        String token = hmacCodec().encode(claims(), 0, 2000);
+        String[] parts = token.split("\\.");
+
+        assertEquals(JwtTokenStatus.MALFORMED, JwtCodec.precheck(null, 0), "Null token");
+        assertEquals(JwtTokenStatus.MALFORMED, JwtCodec.precheck("garbage", 0), "No periods");
+        assertEquals(JwtTokenStatus.MALFORMED, JwtCodec.precheck(token + ".extra", 0), "Too many periods");
+        assertEquals(JwtTokenStatus.MALFORMED, JwtCodec.precheck(parts[0] + "..sig", 0), "Empty payload");
+        assertEquals(JwtTokenStatus.MALFORMED, JwtCodec.precheck(parts[0] + ".a$b." + parts[2], 0),
+                     "Invalid character");
+        assertEquals(JwtTokenStatus.MALFORMED, JwtCodec.precheck(parts[0] + ".bm90LWpzb24." + parts[2], 0),
+                     "Payload is not json");
+        assertEquals(JwtTokenStatus.MALFORMED, JwtCodec.precheck("AQ.sig", 0), "Truncated compact body");
+    }
+
+    @Test
+    public void testSharedCodecAcrossThreads() throws Exception {
+        JwtCodec codec = hmacCodec();
+        ExecutorService service = Executors.newFixedThreadPool(8);
+        List<Future<Object>> results = new ArrayList<>();
+
+        for(int i = 0; i < 200; i++) {
+            int userId = i;
+            results.add(service.submit(() -> codec.decode(codec.encode(Map.of("userId", userId), 0, 180000000))
+                    .get("userId")));
+        }
+        for(int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get(), "User Id");
+        }
+        service.shutdown();
+    }
+
+    private JwtCodec hmacCodec() {
+        return new JwtCodec(new HmacSigningStrategy(JwtAlgorithm.HS512, SIGNING_KEY));
+    }
+
+    private Map<String, Object> claims() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", 12);
+        return claims;
+    }
+
+    private KeyPair keyPair(JwtAlgorithm algorithm) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm());
+        if(algorithm == JwtAlgorithm.RS256) {
+            generator.initialize(2048);
+        }
+        else if(algorithm == JwtAlgorithm.ES256) {
+            generator.initialize(256);
+        }
+        return generator.generateKeyPair();
+    }
+
+    private AsymmetricSigningStrategy strategy(JwtAlgorithm algorithm, KeyPair pair, boolean canSign) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return JwtSigningStrategies.asymmetric(algorithm, encoder.encodeToString(pair.getPublic().getEncoded()),
+                                               canSign ? encoder.encodeToString(pair.getPrivate().getEncoded())
+                                                       : null);
+    }
+}
@@ -0,0 +1,133 @@
+package com.hydro.common.jwt.signing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hydro.common.jwt.utility.JwtTokenUtil;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureException;
+
+/**
+ * Test class for the Jwt Key Ring.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtKeyRingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testEncodeAddsActiveKeyId() {
+        String token = new JwtCodec(ring("k2", "k1", "k2")).encode(claims(), 0, 180000000);
+
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        assertEquals("{\"alg\":\"HS512\",\"kid\":\"k2\"}", header, "Header");
+    }
+
+    @Test
+    public void testDecodeWithNonActiveKey() {
+        String token = new JwtCodec(ring("k1", "k1", "k2")).encode(claims(), 0, 180000000);
+
+        assertEquals(12, new JwtCodec(ring("k2", "k1", "k2")).decode(token).get("userId"), "User Id");
+    }
+
+    @Test
+    public void testDecodeUnknownKeyIdException() {
+        String token = new JwtCodec(ring("k3", "k3")).encode(claims(), 0, 180000000);
+
+        assertThrows(SignatureException.class, () -> new JwtCodec(ring("k1", "k1", "k2")).decode(token));
+    }
+
+    @Test
+    public void testDecodeTokenWithoutKeyIdUsesDefaultKey() {
+        String token = Jwts.builder().claim("userId", 12).signWith(io.jsonwebtoken.SignatureAlgorithm.HS512, secret("k1"))
+                .compact();
+        Map<String, JwtSigningStrategy> keys = new HashMap<>();
+        keys.put("k1", new HmacSigningStrategy(JwtAlgorithm.HS512, secret("k1")));
+        keys.put("k2", new HmacSigningStrategy(JwtAlgorithm.HS512, secret("k2")));
+
+        assertEquals(12, new JwtCodec(new JwtKeyRing("k2", "k1", keys)).decode(token).get("userId"), "User Id");
+        assertThrows(SignatureException.class, () -> new JwtCodec(ring("k2", "k1", "k2")).decode(token));
+    }
+
+    @Test
+    public void testRotateRetainsRemovedKeysUntilTokensExpire() {
+        JwtKeyRing rotated = ring("k1", "k1").rotate(ring("k2", "k2"), 1000);
+
+        assertEquals("k2", rotated.getActiveKeyId(), "Active key");
+        assertTrue(rotated.isRetired("k1"), "Removed key should be retired");
+        assertFalse(rotated.isRetired("k2"), "Active key should not be retired");
+
+        JwtKeyRing kept = rotated.rotate(ring("k2", "k2"), 1000 + JwtTokenUtil.JWT_TOKEN_SYSTEM_VALIDITY - 1);
+        assertTrue(kept.getKeyIds().contains("k1"), "Retired key should be kept until its tokens expire");
+
+        JwtKeyRing dropped = kept.rotate(ring("k2", "k2"), 1000 + JwtTokenUtil.JWT_TOKEN_SYSTEM_VALIDITY);
+        assertEquals(Collections.singleton("k2"), dropped.getKeyIds(), "Key ids");
+    }
+
+    @Test
+    public void testInactiveKeyRingException() {
+        assertThrows(IllegalArgumentException.class, () -> ring("k3", "k1", "k2"));
+    }
+
+    @Test
+    public void testLoadFile() throws IOException {
+        JwtKeyRingFile file = new JwtKeyRingFile(write("active=k2\nkey.k1=secretk1\nkey.k2=secretk2\n"));
+
+        JwtKeyRing ring = file.load();
+
+        assertEquals("k2", ring.getActiveKeyId(), "Active key");
+        assertEquals(2, ring.getKeyIds().size(), "Key count");
+        assertEquals(new HmacSigningStrategy(JwtAlgorithm.HS512, "secretk2"), ring.getActive(), "Active strategy");
+    }
+
+    @Test
+    public void testIsModified() throws IOException {
+        Path path = write("active=k1\nkey.k1=secretk1\n");
+        JwtKeyRingFile file = new JwtKeyRingFile(path);
+        file.load();
+
+        assertFalse(file.isModified(0), "Unchanged file");
+
+        Files.setLastModifiedTime(path, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 5000));
+        assertFalse(file.isModified(1), "File should not be checked before the interval");
+        assertTrue(file.isModified(JwtKeyRingFile.CHECK_INTERVAL), "Changed file");
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(tempDir.resolve("keyring.properties"), content.getBytes());
+    }
+
+    private JwtKeyRing ring(String active, String... keyIds) {
+        Map<String, JwtSigningStrategy> keys = new HashMap<>();
+        for(String keyId : keyIds) {
+            keys.put(keyId, new HmacSigningStrategy(JwtAlgorithm.HS512, secret(keyId)));
+        }
+        return new JwtKeyRing(active, null, keys);
+    }
+
+    private String secret(String keyId) {
+        return "secret" + keyId;
+    }
+
+    private Map<String, Object> claims() {
+        return Collections.singletonMap("userId", 12);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hydro.common.jwt.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.data.User;
+import com.hydro.common.dictionary.enums.Environment;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.domain.JwtType;
+
+/**
+ * Test class for the Jwt Claim Converter.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class JwtClaimConverterTest {
+
+    @Test
+    public void testConvertPartNumberFromClaimMap() {
+        Map<String, Object> claim = new LinkedHashMap<>();
+        claim.put("productNumber", 111111);
+        claim.put("environment", "DEVELOPMENT");
+        claim.put("systemId", 222222);
+
+        PartNumber partNumber = JwtClaimConverter.convert(claim, PartNumber.class);
+        assertEquals("111111D222222", partNumber.build(), "Part Number");
+    }
+
+    @Test
+    public void testConvertPartNumberFromString() {
+        PartNumber partNumber = JwtClaimConverter.convert("111111D222222", PartNumber.class);
+        assertEquals(Environment.DEVELOPMENT, partNumber.getEnvironment(), "Environment");
+    }
+
+    @Test
+    public void testConvertEnums() {
+        assertEquals(WebRole.ADMIN, JwtClaimConverter.convert("ADMIN", WebRole.class), "Web Role");
+        assertEquals(Environment.LOCAL, JwtClaimConverter.convert("LOCAL", Environment.class), "Environment");
+        assertEquals(JwtType.SYSTEM, JwtClaimConverter.convert("SYSTEM", JwtType.class), "Jwt Type");
+    }
+
+    @Test
+    public void testConvertSameTypeReturnsValue() {
+        PartNumber partNumber = new PartNumber("111111D222222");
+        assertSame(partNumber, JwtClaimConverter.convert(partNumber, PartNumber.class), "Part Number");
+    }
+
+    @Test
+    public void testConvertNullValue() {
+        assertNull(JwtClaimConverter.convert(null, PartNumber.class), "Null claim");
+    }
+
+    @Test
+    public void testConvertFallsBackToObjectMapper() {
+        Map<String, Object> claim = new LinkedHashMap<>();
+        claim.put("id", 5);
+        claim.put("email", "test@user.com");
+
+        User user = JwtClaimConverter.convert(claim, User.class);
+        assertEquals(5, user.getId(), "User Id");
+        assertEquals("test@user.com", user.getEmail(), "Email");
+    }
+
+    @Test
+    public void testGetObjectMapperReturnsCopy() throws Exception {
+        JwtClaimConverter.getObjectMapper().configure(SerializationFeature.INDENT_OUTPUT, true);
+
+        assertNotSame(JwtClaimConverter.getObjectMapper(), JwtClaimConverter.getObjectMapper(), "Mapper copies");
+        assertEquals("{\"a\":1}", JwtClaimConverter.getObjectWriter().writeValueAsString(Map.of("a", 1)),
+                     "Shared writer should not be indented");
+    }
+}
@@ -5,11 +5,15 @@ import static com.hydro.common.factory.data.UserFactoryData.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,9 +24,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
 import com.hydro.common.dictionary.data.User;
 import com.hydro.common.dictionary.enums.WebRole;
-import com.hydro.common.environment.AppEnvironmentService;;
+import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.exception.JwtTokenException;
+import com.hydro.common.jwt.context.JwtContextHolder;
+import com.hydro.common.jwt.domain.JwtPair;
+import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.revocation.JwtRevocationList;
+import com.hydro.common.jwt.signing.HmacSigningStrategy;
+import com.hydro.common.jwt.signing.JwtAlgorithm;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtCodecService;
 
 /**
  * Test Class for the JwtHolder.
@@ -36,6 +50,9 @@ public class JwtHolderTest {
     @Mock
     private AppEnvironmentService appEnvironmentService;
 
+    @Mock
+    private JwtCodecService jwtCodecService;
+
     @InjectMocks
     private JwtHolder jwtHolder;
 
@@ -44,7 +61,8 @@ public class JwtHolderTest {
 
     @BeforeEach
     public void setup() {
-        when(appEnvironmentService.getSigningKey()).thenReturn("test-local");
+        when(jwtCodecService.getJwtCodec())
+                .thenReturn(new JwtCodec(new HmacSigningStrategy(JwtAlgorithm.HS512, "test-local")));
         jwtHolder.setToken(tokenUtil.generateToken(userData()));
     }
 
@@ -70,7 +88,79 @@ public class JwtHolderTest {
         latch.await();
 
         // Confirm 8 times. The JwtPair and JwtTokenUtil call it both 4 times each
-        verify(appEnvironmentService, times(8)).getSigningKey();
+        verify(jwtCodecService, times(8)).getJwtCodec();
+    }
+
+    @Test
+    public void testSetTokenRevokedException() {
+        String token = tokenUtil.generateToken(userData());
+        String tokenId = tokenUtil.getAllClaimsFromToken(token).getId();
+        JwtRevocationList.getInstance().revoke(tokenId, Long.MAX_VALUE);
+        try {
+            JwtTokenException e = assertThrows(JwtTokenException.class, () -> jwtHolder.setToken(token));
+            assertEquals("Token has been revoked.", e.getMessage(), "Exception Message");
+        }
+        finally {
+            JwtRevocationList.getInstance().clear();
+        }
+    }
+
+    @Test
+    public void testRunWithRestoresPreviousToken() {
+        String systemToken = tokenUtil.generateToken(hydroSystem());
+
+        jwtHolder.runWith(systemToken, () -> assertEquals(JwtType.SYSTEM, jwtHolder.getJwtType(), "Jwt Type"));
+
+        assertEquals(JwtType.WEB, jwtHolder.getJwtType(), "Previous token should be restored");
+    }
+
+    @Test
+    public void testCallWithClearsTokenOnException() {
+        jwtHolder.clearToken();
+        String token = tokenUtil.generateToken(userData());
+
+        assertThrows(IllegalStateException.class, () -> jwtHolder.callWith(token, () -> {
+            throw new IllegalStateException("failed");
+        }));
+        assertFalse(jwtHolder.isTokenAvaiable(), "Token should be cleared");
+    }
+
+    /**
+     * Binds a token for many short tasks on a small pool, then checks on every
+     * pool thread that no binding was left behind.
+     */
+    @Test
+    public void testCallWithOnPooledThreadsLeavesNoBinding() throws Exception {
+        String token = tokenUtil.generateToken(userData());
+        JwtPair before = JwtContextHolder.get();
+        int threads = 8;
+        ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for(int i = 0; i < 1000; i++) {
+                results.add(service.submit(() -> jwtHolder.callWith(token, jwtHolder::getUserId)));
+            }
+            for(Future<Integer> result : results) {
+                assertEquals(12, result.get(), "User Id");
+            }
+
+            // Each check waits for the others, so every pool thread runs exactly one
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            List<Future<JwtPair>> bindings = new ArrayList<>();
+            for(int i = 0; i < threads; i++) {
+                bindings.add(service.submit(() -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return JwtContextHolder.get();
+                }));
+            }
+            for(Future<JwtPair> binding : bindings) {
+                assertNull(binding.get(), "Binding left on a pool thread");
+            }
+        }
+        finally {
+            service.shutdownNow();
+        }
+        assertSame(before, JwtContextHolder.get(), "Binding of the calling thread");
     }
 
     @Test
@@ -106,6 +196,39 @@ public class JwtHolderTest {
         assertNotNull(sys, "System should not be null");
     }
 
+    @Test
+    public void testGetSystemDecodesClaims() {
+        jwtHolder.setToken(tokenUtil.generateToken(hydroSystem()));
+
+        HydroSystem sys = jwtHolder.getSystem();
+        assertEquals(1, sys.getId(), "System Id");
+        assertEquals("testName", sys.getName(), "System Name");
+        assertEquals(2, sys.getOwnerUserId(), "Owner User Id");
+        assertEquals(new PartNumber("111111D222222"), sys.getPartNumber(), "Part Number");
+        assertEquals(WebRole.SYSTEM, jwtHolder.getWebRole(), "Web Role");
+    }
+
+    @Test
+    public void testGetSystemFromCompactToken() {
+        jwtHolder.setToken(tokenUtil.generateCompactToken(hydroSystem()));
+
+        HydroSystem sys = jwtHolder.getSystem();
+        assertEquals(1, sys.getId(), "System Id");
+        assertEquals("testName", sys.getName(), "System Name");
+        assertEquals(2, sys.getOwnerUserId(), "Owner User Id");
+        assertEquals(new PartNumber("111111D222222"), sys.getPartNumber(), "Part Number");
+        assertEquals(WebRole.SYSTEM, jwtHolder.getWebRole(), "Web Role");
+    }
+
+    @Test
+    public void testGetUser() {
+        User user = jwtHolder.getUser();
+        assertEquals(12, user.getId(), "User Id");
+        assertEquals("Test", user.getFirstName(), "First Name");
+        assertEquals("User", user.getLastName(), "Last Name");
+        assertEquals(WebRole.ADMIN, user.getWebRole(), "Web Role");
+    }
+
     @Test
     public void testParseUserOnSystemTokenException() {
         jwtHolder.setToken(tokenUtil.generateToken(hydroSystem()));
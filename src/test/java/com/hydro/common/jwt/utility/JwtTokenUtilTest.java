@@ -1,25 +1,52 @@
 package com.hydro.common.jwt.utility;
 
+import static com.hydro.common.factory.data.HydroSystemFactoryData.hydroSystem;
 import static com.hydro.common.factory.data.UserFactoryData.userData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.User;
 import com.hydro.common.dictionary.enums.Environment;
 import com.hydro.common.dictionary.enums.WebRole;
 import com.hydro.common.environment.AppEnvironmentService;
+import com.hydro.common.exception.JwtTokenException;
+import com.hydro.common.jwt.domain.JwtPair;
+import com.hydro.common.jwt.domain.JwtTokenGrant;
+import com.hydro.common.jwt.domain.JwtType;
+import com.hydro.common.jwt.domain.JwtValidatedToken;
+import com.hydro.common.jwt.signing.HmacSigningStrategy;
+import com.hydro.common.jwt.signing.JwtAlgorithm;
+import com.hydro.common.jwt.signing.JwtCodec;
+import com.hydro.common.jwt.signing.JwtCodecService;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -34,15 +61,20 @@ import io.jsonwebtoken.SignatureAlgorithm;
 @ExtendWith(MockitoExtension.class)
 public class JwtTokenUtilTest {
 
+    private static final JwtCodec CODEC = new JwtCodec(new HmacSigningStrategy(JwtAlgorithm.HS512, "test-local-key"));
+
     @Mock
     private AppEnvironmentService appEnvironmentService;
 
+    @Mock
+    private JwtCodecService jwtCodecService;
+
     @InjectMocks
     private JwtTokenUtil jwtTokenUtil;
 
     @Test
     public void testGenerateToken() {
-        when(appEnvironmentService.getSigningKey()).thenReturn("test-local-key");
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
         String token = jwtTokenUtil.generateToken(userData());
 
         assertNotNull(token, "Token should not be null");
@@ -51,7 +83,7 @@ public class JwtTokenUtilTest {
 
     @Test
     public void testGetAllClaimsFromToken() {
-        when(appEnvironmentService.getSigningKey()).thenReturn("test-local-key");
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
         when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
 
         Claims claims = jwtTokenUtil.getAllClaimsFromToken(jwtTokenUtil.generateToken(userData()));
@@ -67,14 +99,14 @@ public class JwtTokenUtilTest {
 
     @Test
     public void testIsTokenExpiredValid() {
-        when(appEnvironmentService.getSigningKey()).thenReturn("test-local-key");
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
         String token = jwtTokenUtil.generateToken(userData());
         assertFalse(jwtTokenUtil.isTokenExpired(token), "Token not expired");
     }
 
     @Test
     public void testIsTokenExpiredInvalid() {
-        when(appEnvironmentService.getSigningKey()).thenReturn("test-local-key");
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
         String expiredToken = Jwts.builder().setClaims(new HashMap<>())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() - 18000000))
@@ -84,11 +116,219 @@ public class JwtTokenUtilTest {
 
     @Test
     public void testGetExpirationDateFromToken() {
-        when(appEnvironmentService.getSigningKey()).thenReturn("test-local-key");
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
         String token = Jwts.builder().setClaims(new HashMap<>()).setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(180000000)).signWith(SignatureAlgorithm.HS512, "test-local-key").compact();
         LocalDateTime tokenDate = jwtTokenUtil.getExpirationDateFromToken(token);
 
         assertNotNull(tokenDate, "Token Expiration Time");
     }
+
+    @Test
+    public void testValidate() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        Instant issued = Instant.parse("2026-10-18T10:00:00Z");
+        ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(issued, ZoneOffset.UTC));
+        String token = jwtTokenUtil.generateToken(userData());
+
+        ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(issued.plusSeconds(3600), ZoneOffset.UTC));
+        JwtValidatedToken validated = jwtTokenUtil.validate(token);
+
+        assertEquals(issued.toEpochMilli(), validated.getIssuedAt(), "Issued At");
+        assertEquals(issued.toEpochMilli() + JwtTokenUtil.JWT_TOKEN_USER_VALIDITY, validated.getExpiration(),
+                     "Expiration");
+        assertEquals(Duration.ofHours(4), validated.getRemainingTtl(), "Remaining TTL");
+        assertEquals((Object) 12, jwtTokenUtil.getClaimFromToken(validated, c -> c.get("userId")), "User Id");
+        assertEquals(LocalDateTime.of(2026, 10, 18, 15, 0), jwtTokenUtil.getExpirationDateFromToken(validated),
+                     "Expiration Date");
+        assertFalse(jwtTokenUtil.isTokenExpired(validated), "Token not expired");
+
+        ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(issued.plusSeconds(18000), ZoneOffset.UTC));
+        assertTrue(jwtTokenUtil.validate(token).isExpired(), "Token expired");
+        assertTrue(jwtTokenUtil.isTokenExpired(token), "Token expired");
+    }
+
+    @Test
+    public void testGenerateTokens() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        when(appEnvironmentService.getTokenGenerationParallelism()).thenReturn(4);
+        List<HydroSystem> systems = new ArrayList<>();
+        for(int i = 0; i < 200; i++) {
+            HydroSystem system = hydroSystem();
+            system.setId(i);
+            systems.add(system);
+        }
+
+        List<String> tokens = jwtTokenUtil.generateTokens(systems);
+
+        assertEquals(200, tokens.size(), "Token count");
+        for(int i = 0; i < tokens.size(); i++) {
+            Claims claims = jwtTokenUtil.getAllClaimsFromToken(tokens.get(i));
+            assertEquals(i, claims.get("id"), "System Id");
+            assertEquals(Environment.LOCAL.toString(), claims.get("env"), "Environment");
+        }
+    }
+
+    @Test
+    public void testGenerateTokensStreaming() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        List<HydroSystem> systems = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            HydroSystem system = hydroSystem();
+            system.setId(i);
+            systems.add(system);
+        }
+        Map<Integer, String> tokens = new ConcurrentHashMap<>();
+
+        jwtTokenUtil.generateTokens(systems, (system, token) -> tokens.put(system.getId(), token));
+
+        assertEquals(100, tokens.size(), "Token count");
+        tokens.forEach((id, token) -> assertEquals(id, jwtTokenUtil.getAllClaimsFromToken(token).get("id"),
+                                                   "System Id"));
+    }
+
+    @Test
+    public void testDestroyShutsDownGenerationPool() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        jwtTokenUtil.generateTokens(List.of(hydroSystem()));
+        ForkJoinPool pool = (ForkJoinPool) ReflectionTestUtils.getField(jwtTokenUtil, "generationPool");
+
+        jwtTokenUtil.destroy();
+
+        assertTrue(pool.isShutdown(), "Generation pool is shut down");
+        assertThrows(IllegalStateException.class, () -> jwtTokenUtil.generateTokens(List.of(hydroSystem())),
+                     "Batch generation after destroy");
+    }
+
+    @Test
+    public void testGenerateTokenGrant() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        Instant issued = Instant.parse("2026-10-18T10:00:00Z");
+        ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(issued, ZoneOffset.UTC));
+
+        JwtTokenGrant grant = jwtTokenUtil.generateTokenGrant(userData());
+        JwtValidatedToken access = jwtTokenUtil.validate(grant.getAccessToken());
+        JwtValidatedToken refresh = jwtTokenUtil.validate(grant.getRefreshToken());
+
+        assertEquals(JwtType.WEB, access.getSnapshot().getJwtType(), "Access token type");
+        assertEquals(JwtType.REFRESH, refresh.getSnapshot().getJwtType(), "Refresh token type");
+        assertEquals(grant.getAccessExpiration(), access.getExpiration(), "Access expiration");
+        assertTrue(access.getRemainingTtl().toMillis() <= JwtTokenUtil.JWT_TOKEN_ACCESS_VALIDITY, "Access ttl");
+        assertTrue(access.getRemainingTtl().toMillis() >= JwtTokenUtil.JWT_TOKEN_ACCESS_VALIDITY * 9 / 10,
+                   "Access jitter");
+        assertTrue(refresh.getRemainingTtl().toMillis() <= JwtTokenUtil.JWT_TOKEN_REFRESH_VALIDITY, "Refresh ttl");
+        assertNotEquals(access.getClaims().getId(), refresh.getClaims().getId(), "Token ids");
+        assertThrows(JwtTokenException.class, () -> new JwtPair(grant.getRefreshToken(), jwtCodecService),
+                     "Refresh token can not authenticate");
+    }
+
+    @Test
+    public void testRefreshSystemGrant() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        JwtTokenGrant grant = jwtTokenUtil.generateTokenGrant(hydroSystem());
+        HydroSystem renamed = hydroSystem();
+        renamed.setName("Renamed System");
+
+        JwtTokenGrant refreshed = jwtTokenUtil.refreshSystemGrant(grant.getRefreshToken(), id -> renamed);
+        Claims claims = jwtTokenUtil.getAllClaimsFromToken(refreshed.getAccessToken());
+
+        assertEquals(JwtType.SYSTEM.toString(), claims.get("jwtType"), "Access token type");
+        assertEquals(1, claims.get("id"), "System Id");
+        assertEquals("Renamed System", claims.get("name"), "Claims are rebuilt from the loaded system");
+        assertEquals(grant.getSessionExpiration(), refreshed.getSessionExpiration(), "Session is carried over");
+        assertEquals(JwtType.REFRESH.toString(),
+                     jwtTokenUtil.getAllClaimsFromToken(refreshed.getRefreshToken()).get("jwtType"),
+                     "Refresh token type");
+        assertThrows(JwtTokenException.class, () -> jwtTokenUtil.refreshSystemGrant(grant.getRefreshToken(),
+                                                                                    id -> renamed),
+                     "Refresh token is single use");
+        assertThrows(JwtTokenException.class, () -> jwtTokenUtil.refreshSystemGrant(refreshed.getAccessToken(),
+                                                                                    id -> renamed),
+                     "Access token can not refresh");
+    }
+
+    @Test
+    public void testRefreshUserGrant() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        JwtTokenGrant grant = jwtTokenUtil.generateTokenGrant(userData());
+        User demoted = userData();
+        demoted.setWebRole(WebRole.USER);
+
+        JwtTokenGrant refreshed = jwtTokenUtil.refreshUserGrant(grant.getRefreshToken(), id -> demoted);
+
+        assertEquals(WebRole.USER.toString(),
+                     jwtTokenUtil.getAllClaimsFromToken(refreshed.getAccessToken()).get("webRole"),
+                     "Role is rebuilt from the loaded user");
+        assertThrows(JwtTokenException.class, () -> jwtTokenUtil.refreshSystemGrant(refreshed.getRefreshToken(),
+                                                                                    id -> hydroSystem()),
+                     "User refresh token can not refresh a system grant");
+        assertThrows(JwtTokenException.class, () -> jwtTokenUtil.refreshUserGrant(refreshed.getRefreshToken(),
+                                                                                  id -> null),
+                     "Removed user can not refresh");
+    }
+
+    @Test
+    public void testRefreshIsCappedBySession() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        Instant issued = Instant.now();
+        ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(issued, ZoneOffset.UTC));
+        JwtTokenGrant grant = jwtTokenUtil.generateTokenGrant(hydroSystem());
+
+        JwtTokenGrant refreshed = grant;
+        while(refreshed.getRefreshExpiration() < grant.getSessionExpiration()) {
+            Instant beforeExpiry = Instant.ofEpochMilli(refreshed.getRefreshExpiration()).minusSeconds(60);
+            ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(beforeExpiry, ZoneOffset.UTC));
+            refreshed = jwtTokenUtil.refreshSystemGrant(refreshed.getRefreshToken(), id -> hydroSystem());
+        }
+
+        assertTrue(refreshed.getAccessExpiration() <= grant.getSessionExpiration(), "Access capped by session");
+        assertEquals(grant.getSessionExpiration(), refreshed.getRefreshExpiration(), "Refresh capped by session");
+
+        Instant afterEnd = Instant.ofEpochMilli(grant.getSessionExpiration()).plusSeconds(1);
+        ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(afterEnd, ZoneOffset.UTC));
+        String lastRefreshToken = refreshed.getRefreshToken();
+        assertThrows(JwtTokenException.class, () -> jwtTokenUtil.refreshSystemGrant(lastRefreshToken,
+                                                                                    id -> hydroSystem()),
+                     "Refresh after the session ends");
+    }
+
+    @Test
+    public void testSystemTokenExpirationJitter() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getEnvironment()).thenReturn(Environment.LOCAL);
+        Instant issued = Instant.parse("2026-10-18T10:00:00Z");
+        ReflectionTestUtils.setField(jwtTokenUtil, "clock", Clock.fixed(issued, ZoneOffset.UTC));
+
+        Set<Long> expirations = new HashSet<>();
+        for(int i = 0; i < 20; i++) {
+            long ttl = jwtTokenUtil.validate(jwtTokenUtil.generateToken(hydroSystem())).getRemainingTtl().toMillis();
+            assertTrue(ttl <= JwtTokenUtil.JWT_TOKEN_SYSTEM_VALIDITY, "Ttl within validity");
+            assertTrue(ttl >= JwtTokenUtil.JWT_TOKEN_SYSTEM_VALIDITY * 9 / 10, "Ttl within jitter");
+            expirations.add(ttl);
+        }
+
+        assertTrue(expirations.size() > 1, "Expirations are spread out");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testJwtPairWithEnvironment() {
+        when(jwtCodecService.getJwtCodec()).thenReturn(CODEC);
+        when(appEnvironmentService.getSigningAlgorithm()).thenReturn(JwtAlgorithm.HS512);
+        when(appEnvironmentService.getSigningKey()).thenReturn("test-local-key");
+        String token = jwtTokenUtil.generateToken(userData());
+
+        JwtPair pair = new JwtPair(token, appEnvironmentService);
+
+        assertEquals(12, pair.getClaimSet().get("userId"), "User Id");
+        assertSame(JwtCodecService.forEnvironment(appEnvironmentService),
+                   JwtCodecService.forEnvironment(appEnvironmentService), "Codec service created once");
+    }
 }
@@ -0,0 +1,131 @@
+package com.hydro.common.util.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.common.dictionary.enums.Environment;
+
+/**
+ * Test class for the {@link ProductNumberAllocator}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ProductNumberAllocatorTest {
+
+    @Test
+    public void testEveryProductNumberAllocatedOnce() {
+        BitSet seen = new BitSet();
+        for(int sequence = 0; sequence < ProductNumberAllocator.PRODUCT_NUMBER_COUNT; sequence++) {
+            int productNumber = ProductNumberAllocator.toProductNumber(sequence);
+            assertTrue(productNumber >= 100000 && productNumber <= 999999, "Product number should be six digits");
+            seen.set(productNumber);
+        }
+        assertEquals(ProductNumberAllocator.PRODUCT_NUMBER_COUNT, seen.cardinality(), "Unique product numbers");
+    }
+
+    @Test
+    public void testNextReservesInBatches() {
+        AtomicInteger reservations = new AtomicInteger();
+        InMemoryProductNumberSource source = new InMemoryProductNumberSource();
+        ProductNumberAllocator allocator = new ProductNumberAllocator(count -> {
+            reservations.incrementAndGet();
+            return source.reserve(count);
+        }, 10);
+
+        for(int i = 0; i < 25; i++) {
+            allocator.next();
+        }
+        assertEquals(3, reservations.get(), "Reservations");
+    }
+
+    @Test
+    public void testNextUniqueAcrossThreads() throws Exception {
+        ProductNumberAllocator allocator = new ProductNumberAllocator(new InMemoryProductNumberSource(), 16);
+        Set<Integer> productNumbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for(int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    for(int j = 0; j < 10000; j++) {
+                        productNumbers.add(allocator.next());
+                    }
+                });
+            }
+            for(Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertEquals(40000, productNumbers.size(), "Every product number should be unique");
+    }
+
+    @Test
+    public void testNextBatchDoesNotOverlap() {
+        ProductNumberAllocator allocator = new ProductNumberAllocator(new InMemoryProductNumberSource(), 4);
+        Set<Integer> productNumbers = ConcurrentHashMap.newKeySet();
+        productNumbers.add(allocator.next());
+        for(int productNumber : allocator.next(100)) {
+            productNumbers.add(productNumber);
+        }
+        productNumbers.add(allocator.next());
+        assertEquals(102, productNumbers.size(), "Every product number should be unique");
+    }
+
+    @Test
+    public void testNextBatchRejectsInvalidCount() {
+        InMemoryProductNumberSource source = new InMemoryProductNumberSource();
+        ProductNumberAllocator allocator = new ProductNumberAllocator(source, 4);
+        int first = allocator.next(1)[0];
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> allocator.next(-5));
+        assertEquals("Count must be positive", e.getMessage(), "Exception Message");
+        assertThrows(IllegalArgumentException.class, () -> allocator.next(0), "Empty batch");
+        assertEquals(1, source.reserve(1), "Sequence not moved");
+        assertNotEquals(first, allocator.next(1)[0], "Product number not reissued");
+    }
+
+    @Test
+    public void testNextWhenExhausted() {
+        ProductNumberAllocator allocator = new ProductNumberAllocator(
+                new InMemoryProductNumberSource(ProductNumberAllocator.PRODUCT_NUMBER_COUNT - 1), 4);
+        allocator.next();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> allocator.next());
+        assertEquals("All product numbers have been allocated", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testNextPartNumber() {
+        PartNumber partNumber = new ProductNumberAllocator().nextPartNumber(Environment.PRODUCTION, 12);
+
+        assertEquals(ProductNumberAllocator.toProductNumber(0), partNumber.getProductNumber(), "Product Number");
+        assertEquals(Environment.PRODUCTION, partNumber.getEnvironment(), "Environment");
+        assertEquals(12, partNumber.getSystemId(), "System Id");
+        assertEquals(partNumber, new PartNumber(partNumber.build()), "Part Number should parse");
+    }
+
+    @Test
+    public void testInvalidBatchSize() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> new ProductNumberAllocator(new InMemoryProductNumberSource(),
+                                                                                   0));
+        assertEquals("Batch size must be positive", e.getMessage(), "Exception Message");
+    }
+}
@@ -0,0 +1,103 @@
+package com.hydro.common.util.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test class for the {@link SnowflakeIdGenerator}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SnowflakeIdGeneratorTest {
+
+    @Test
+    public void testNextIdParts() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, 1000L, () -> 6000L);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertEquals(6000L, generator.getTimestamp(first), "Timestamp");
+        assertEquals(42, SnowflakeIdGenerator.getNodeId(first), "Node Id");
+        assertEquals(0, SnowflakeIdGenerator.getSequence(first), "First Sequence");
+        assertEquals(1, SnowflakeIdGenerator.getSequence(second), "Second Sequence");
+    }
+
+    @Test
+    public void testNextIdIncreasesWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(5000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 0L, clock::get);
+
+        long first = generator.nextId();
+        clock.set(4000L);
+        long second = generator.nextId();
+
+        assertTrue(second > first, "Id should increase when the clock moves backwards");
+        assertEquals(5000L, generator.getTimestamp(second), "Timestamp should not move backwards");
+    }
+
+    @Test
+    public void testNextIdBorrowsNextMillisWhenSequenceRunsOut() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 0L, () -> 5000L);
+
+        long id = 0;
+        for(int i = 0; i <= 4096; i++) {
+            id = generator.nextId();
+        }
+
+        assertEquals(5001L, generator.getTimestamp(id), "Timestamp");
+        assertEquals(0, SnowflakeIdGenerator.getSequence(id), "Sequence");
+    }
+
+    @Test
+    public void testNextIdUniqueAcrossThreads() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for(int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    for(int j = 0; j < 25000; j++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+            for(Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertEquals(100000, ids.size(), "Every id should be unique");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 1024 })
+    public void testInvalidNodeId(int nodeId) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> new SnowflakeIdGenerator(nodeId));
+        assertEquals("Node id must be between 0 and 1023", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testNextIdBeforeEpoch() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000L, () -> 1000L);
+        long id = generator.nextId();
+        assertEquals(5000L, generator.getTimestamp(id), "Timestamp should start at the epoch");
+    }
+}